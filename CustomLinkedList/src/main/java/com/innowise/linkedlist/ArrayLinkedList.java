@@ -0,0 +1,421 @@
+package com.innowise.linkedlist;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A doubly linked list without node objects. Each element occupies a slot that is an index into
+ * three parallel arrays: {@code values}, {@code next} and {@code prev}, where the links are slot
+ * numbers and {@code -1} marks the end of the chain. An element therefore costs one reference and
+ * two {@code int}s instead of a whole node with its object header, the garbage collector scans a
+ * single reference array instead of chasing millions of nodes, and traversal reads dense arrays.
+ *
+ * <p>Slots freed by removals are kept on a free-slot stack threaded through {@code next} and are
+ * reused by later insertions. When no free slot is left the arrays grow geometrically, so adding
+ * takes amortized constant time. The public API mirrors {@link LinkedList}. Iterators are
+ * fail-fast.
+ *
+ * @param <T> the type of elements stored in the list
+ */
+
+public class ArrayLinkedList<T> implements Iterable<T> {
+
+  private static final int NIL = -1;
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  private Object[] values;
+  private int[] next;
+  private int[] prev;
+  private int head = NIL;
+  private int tail = NIL;
+  private int freeTop = NIL;
+  private int used = 0;
+  private int size = 0;
+  private int modCount = 0;
+
+  /**
+   * Creates an empty list with room for a default number of elements.
+   */
+  public ArrayLinkedList() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty list with room for {@code initialCapacity} elements before its arrays grow.
+   *
+   * @param initialCapacity the number of slots to allocate up front
+   * @throws IllegalArgumentException if initialCapacity is negative
+   */
+  public ArrayLinkedList(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Capacity must not be negative: " + initialCapacity);
+    }
+    values = new Object[initialCapacity];
+    next = new int[initialCapacity];
+    prev = new int[initialCapacity];
+  }
+
+  /**
+   * Inserts the specified value at the beginning of the list.
+   *
+   * @param value the value to insert
+   */
+  public void addFirst(T value) {
+    int slot = allocate(value);
+    next[slot] = head;
+    prev[slot] = NIL;
+    if (head != NIL) {
+      prev[head] = slot;
+    } else {
+      tail = slot;
+    }
+    head = slot;
+    size++;
+    modCount++;
+  }
+
+  /**
+   * Inserts the specified value at the end of the list.
+   *
+   * @param value the value to insert
+   */
+  public void addLast(T value) {
+    int slot = allocate(value);
+    next[slot] = NIL;
+    prev[slot] = tail;
+    if (tail != NIL) {
+      next[tail] = slot;
+    } else {
+      head = slot;
+    }
+    tail = slot;
+    size++;
+    modCount++;
+  }
+
+  /**
+   * Inserts the specified value at the given index.
+   *
+   * @param index the position to insert at
+   * @param value the value to insert
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  public void add(int index, T value) {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (index == 0) {
+      addFirst(value);
+      return;
+    }
+    if (index == size) {
+      addLast(value);
+      return;
+    }
+
+    int slotAfter = slot(index);
+    int slotBefore = prev[slotAfter];
+    int slot = allocate(value);
+
+    prev[slot] = slotBefore;
+    next[slot] = slotAfter;
+    next[slotBefore] = slot;
+    prev[slotAfter] = slot;
+    size++;
+    modCount++;
+  }
+
+  /**
+   * Returns the value at the specified index.
+   *
+   * @param index the index of the element
+   * @return the value at the given index
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  public T get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException();
+    }
+    return valueAt(slot(index));
+  }
+
+  /**
+   * Returns the first value in the list.
+   *
+   * @return the first value
+   * @throws IllegalStateException if the list is empty
+   */
+  public T getFirst() {
+    if (head == NIL) {
+      throw new IllegalStateException("List is empty");
+    }
+    return valueAt(head);
+  }
+
+  /**
+   * Returns the last value in the list.
+   *
+   * @return the last value
+   * @throws IllegalStateException if the list is empty
+   */
+  public T getLast() {
+    if (tail == NIL) {
+      throw new IllegalStateException("List is empty");
+    }
+    return valueAt(tail);
+  }
+
+  /**
+   * Removes the element at the specified index.
+   *
+   * @param index the index of the element to remove
+   * @return the removed value
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  public T remove(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException();
+    }
+    return unlink(slot(index));
+  }
+
+  /**
+   * Removes the first element of the list.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty
+   */
+  public T removeFirst() {
+    if (head == NIL) {
+      throw new IllegalStateException("List is empty");
+    }
+    return unlink(head);
+  }
+
+  /**
+   * Removes the last element of the list.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty
+   */
+  public T removeLast() {
+    if (tail == NIL) {
+      throw new IllegalStateException("List is empty");
+    }
+    return unlink(tail);
+  }
+
+  /**
+   * Returns the number of elements in the list.
+   *
+   * @return the size of the list
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Shrinks the backing arrays to the current size and renumbers the slots in list order, so that
+   * traversal afterwards reads the arrays front to back.
+   */
+  public void trimToSize() {
+    Object[] newValues = new Object[size];
+    int[] newNext = new int[size];
+    int[] newPrev = new int[size];
+    int slot = head;
+    for (int i = 0; i < size; i++) {
+      newValues[i] = values[slot];
+      newNext[i] = i + 1 < size ? i + 1 : NIL;
+      newPrev[i] = i - 1;
+      slot = next[slot];
+    }
+    values = newValues;
+    next = newNext;
+    prev = newPrev;
+    head = size > 0 ? 0 : NIL;
+    tail = size - 1;
+    freeTop = NIL;
+    used = size;
+    modCount++;
+  }
+
+  /**
+   * Returns an iterator over the elements in list order.
+   *
+   * @return a fail-fast iterator
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<>() {
+      private int slot = head;
+      private final int expectedModCount = modCount;
+
+      @Override
+      public boolean hasNext() {
+        return slot != NIL;
+      }
+
+      @Override
+      public T next() {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (slot == NIL) {
+          throw new NoSuchElementException();
+        }
+        T value = valueAt(slot);
+        slot = next[slot];
+        return value;
+      }
+    };
+  }
+
+  /**
+   * Compares this list with another object for equality.
+   *
+   * @param o the object to compare with
+   * @return true if both lists contain equal elements in the same order
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ArrayLinkedList<?> that) || size != that.size) {
+      return false;
+    }
+    for (int a = head, b = that.head; a != NIL; a = next[a], b = that.next[b]) {
+      if (!Objects.equals(values[a], that.values[b])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns a hash code based on the list's contents.
+   *
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    int result = 1;
+    for (int slot = head; slot != NIL; slot = next[slot]) {
+      result = 31 * result + Objects.hashCode(values[slot]);
+    }
+    return result;
+  }
+
+  /**
+   * Returns a string representation of the list.
+   *
+   * @return a readable format of the list contents
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("ArrayLinkedList{");
+    for (int slot = head; slot != NIL; slot = next[slot]) {
+      builder.append(values[slot]);
+      if (next[slot] != NIL) {
+        builder.append(" <-> ");
+      }
+    }
+    builder.append("}");
+    return builder.toString();
+  }
+
+  /**
+   * Returns the number of allocated slots, for checking growth and slot reuse.
+   */
+  int capacity() {
+    return values.length;
+  }
+
+  /**
+   * Takes a slot from the free-slot stack, or the next never-used slot, growing the arrays when
+   * neither is available, and stores {@code value} in it.
+   */
+  private int allocate(T value) {
+    int slot;
+    if (freeTop != NIL) {
+      slot = freeTop;
+      freeTop = next[slot];
+    } else {
+      if (used == values.length) {
+        grow();
+      }
+      slot = used++;
+    }
+    values[slot] = value;
+    return slot;
+  }
+
+  /**
+   * Grows the arrays by half their length, and at least to the default capacity.
+   */
+  private void grow() {
+    int oldCapacity = values.length;
+    if (oldCapacity == MAX_CAPACITY) {
+      throw new OutOfMemoryError("List is too large");
+    }
+    int newCapacity = (int) Math.min(MAX_CAPACITY,
+        Math.max(DEFAULT_CAPACITY, oldCapacity + (long) (oldCapacity >> 1)));
+    values = Arrays.copyOf(values, newCapacity);
+    next = Arrays.copyOf(next, newCapacity);
+    prev = Arrays.copyOf(prev, newCapacity);
+  }
+
+  /**
+   * Detaches {@code slot} from the chain, clears its value and pushes it on the free-slot stack.
+   */
+  private T unlink(int slot) {
+    T value = valueAt(slot);
+    int before = prev[slot];
+    int after = next[slot];
+    if (before != NIL) {
+      next[before] = after;
+    } else {
+      head = after;
+    }
+    if (after != NIL) {
+      prev[after] = before;
+    } else {
+      tail = before;
+    }
+    values[slot] = null;
+    next[slot] = freeTop;
+    freeTop = slot;
+    size--;
+    modCount++;
+    return value;
+  }
+
+  /**
+   * Walks to the slot holding {@code index} from whichever end is closer.
+   */
+  private int slot(int index) {
+    int slot;
+    if (index < (size >> 1)) {
+      slot = head;
+      for (int i = 0; i < index; i++) {
+        slot = next[slot];
+      }
+    } else {
+      slot = tail;
+      for (int i = size - 1; i > index; i--) {
+        slot = prev[slot];
+      }
+    }
+    return slot;
+  }
+
+  @SuppressWarnings("unchecked")
+  private T valueAt(int slot) {
+    return (T) values[slot];
+  }
+
+}
@@ -0,0 +1,454 @@
+package com.innowise.linkedlist;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe, capacity-bounded deque built on {@link LinkedList}. Producers block in
+ * {@code put*} while the deque is full and consumers block in {@code take*} while it is empty,
+ * which gives natural backpressure when consumers fall behind. Both ends share one
+ * {@link ReentrantLock} with separate {@code notEmpty} / {@code notFull} conditions, and the
+ * underlying list recycles a bounded number of nodes, so a deque at steady state does not
+ * allocate.
+ *
+ * <p>Null elements are not permitted.
+ *
+ * @param <T> the type of elements stored in the deque
+ */
+
+public class BlockingLinkedDeque<T> {
+
+  /**
+   * Default number of removed nodes kept for reuse.
+   */
+  public static final int DEFAULT_POOL_CAPACITY = 64;
+
+  private final LinkedList<T> list;
+  private final int capacity;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+
+  /**
+   * Creates an empty deque holding at most {@code capacity} elements, which keeps up to
+   * {@link #DEFAULT_POOL_CAPACITY} removed nodes for reuse.
+   *
+   * @param capacity the maximum number of elements
+   * @throws IllegalArgumentException if capacity is not positive
+   */
+  public BlockingLinkedDeque(int capacity) {
+    this(capacity, Math.min(capacity, DEFAULT_POOL_CAPACITY));
+  }
+
+  /**
+   * Creates an empty deque holding at most {@code capacity} elements, which keeps up to
+   * {@code poolCapacity} removed nodes for reuse. Pooled nodes stay allocated after a burst, so a
+   * pool as large as the capacity keeps the deque's peak memory for its whole lifetime.
+   *
+   * @param capacity     the maximum number of elements
+   * @param poolCapacity the maximum number of recycled nodes to keep, or zero to disable pooling
+   * @throws IllegalArgumentException if capacity is not positive or poolCapacity is negative
+   */
+  public BlockingLinkedDeque(int capacity, int poolCapacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+    }
+    this.capacity = capacity;
+    this.list = new LinkedList<>(poolCapacity);
+  }
+
+  /**
+   * Inserts the value at the front, waiting for space if the deque is full.
+   *
+   * @param value the value to insert
+   * @throws InterruptedException if interrupted while waiting
+   * @throws NullPointerException if value is null
+   */
+  public void putFirst(T value) throws InterruptedException {
+    Objects.requireNonNull(value);
+    lock.lockInterruptibly();
+    try {
+      while (list.size() >= capacity) {
+        notFull.await();
+      }
+      list.addFirst(value);
+      notEmpty.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Inserts the value at the end, waiting for space if the deque is full.
+   *
+   * @param value the value to insert
+   * @throws InterruptedException if interrupted while waiting
+   * @throws NullPointerException if value is null
+   */
+  public void putLast(T value) throws InterruptedException {
+    Objects.requireNonNull(value);
+    lock.lockInterruptibly();
+    try {
+      while (list.size() >= capacity) {
+        notFull.await();
+      }
+      list.addLast(value);
+      notEmpty.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Inserts the value at the front if there is space for it right now.
+   *
+   * @param value the value to insert
+   * @return true if the value was added, false if the deque is full
+   * @throws NullPointerException if value is null
+   */
+  public boolean offerFirst(T value) {
+    Objects.requireNonNull(value);
+    lock.lock();
+    try {
+      if (list.size() >= capacity) {
+        return false;
+      }
+      list.addFirst(value);
+      notEmpty.signal();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Inserts the value at the end if there is space for it right now.
+   *
+   * @param value the value to insert
+   * @return true if the value was added, false if the deque is full
+   * @throws NullPointerException if value is null
+   */
+  public boolean offerLast(T value) {
+    Objects.requireNonNull(value);
+    lock.lock();
+    try {
+      if (list.size() >= capacity) {
+        return false;
+      }
+      list.addLast(value);
+      notEmpty.signal();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Inserts the value at the front, waiting up to the given time for space.
+   *
+   * @param value   the value to insert
+   * @param timeout how long to wait
+   * @param unit    the unit of {@code timeout}
+   * @return true if the value was added, false if the timeout elapsed first
+   * @throws InterruptedException if interrupted while waiting
+   * @throws NullPointerException if value is null
+   */
+  public boolean offerFirst(T value, long timeout, TimeUnit unit) throws InterruptedException {
+    Objects.requireNonNull(value);
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (list.size() >= capacity) {
+        if (nanos <= 0) {
+          return false;
+        }
+        nanos = notFull.awaitNanos(nanos);
+      }
+      list.addFirst(value);
+      notEmpty.signal();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Inserts the value at the end, waiting up to the given time for space.
+   *
+   * @param value   the value to insert
+   * @param timeout how long to wait
+   * @param unit    the unit of {@code timeout}
+   * @return true if the value was added, false if the timeout elapsed first
+   * @throws InterruptedException if interrupted while waiting
+   * @throws NullPointerException if value is null
+   */
+  public boolean offerLast(T value, long timeout, TimeUnit unit) throws InterruptedException {
+    Objects.requireNonNull(value);
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (list.size() >= capacity) {
+        if (nanos <= 0) {
+          return false;
+        }
+        nanos = notFull.awaitNanos(nanos);
+      }
+      list.addLast(value);
+      notEmpty.signal();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes and returns the first element, waiting until one is available.
+   *
+   * @return the removed value
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public T takeFirst() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (list.size() == 0) {
+        notEmpty.await();
+      }
+      T value = list.removeFirst();
+      notFull.signal();
+      return value;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes and returns the last element, waiting until one is available.
+   *
+   * @return the removed value
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public T takeLast() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (list.size() == 0) {
+        notEmpty.await();
+      }
+      T value = list.removeLast();
+      notFull.signal();
+      return value;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes and returns the first element if one is available right now.
+   *
+   * @return the removed value, or null if the deque is empty
+   */
+  public T pollFirst() {
+    lock.lock();
+    try {
+      if (list.size() == 0) {
+        return null;
+      }
+      T value = list.removeFirst();
+      notFull.signal();
+      return value;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes and returns the last element if one is available right now.
+   *
+   * @return the removed value, or null if the deque is empty
+   */
+  public T pollLast() {
+    lock.lock();
+    try {
+      if (list.size() == 0) {
+        return null;
+      }
+      T value = list.removeLast();
+      notFull.signal();
+      return value;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes and returns the first element, waiting up to the given time for one.
+   *
+   * @param timeout how long to wait
+   * @param unit    the unit of {@code timeout}
+   * @return the removed value, or null if the timeout elapsed first
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public T pollFirst(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (list.size() == 0) {
+        if (nanos <= 0) {
+          return null;
+        }
+        nanos = notEmpty.awaitNanos(nanos);
+      }
+      T value = list.removeFirst();
+      notFull.signal();
+      return value;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes and returns the last element, waiting up to the given time for one.
+   *
+   * @param timeout how long to wait
+   * @param unit    the unit of {@code timeout}
+   * @return the removed value, or null if the timeout elapsed first
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public T pollLast(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (list.size() == 0) {
+        if (nanos <= 0) {
+          return null;
+        }
+        nanos = notEmpty.awaitNanos(nanos);
+      }
+      T value = list.removeLast();
+      notFull.signal();
+      return value;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes up to {@code maxElements} elements from the front and hands them to
+   * {@code consumer} in order. The elements are taken under a single lock acquisition and the
+   * consumer runs after the lock has been released, so a slow consumer never blocks producers.
+   *
+   * <p>If the consumer throws, the exception propagates and the elements it has not been handed
+   * yet are put back at the front of the deque in their original order; the element it threw on
+   * counts as handed over. Producers may have refilled the deque in the meantime, so putting
+   * elements back can leave it above capacity until consumers catch up.
+   *
+   * @param consumer    receives the removed elements
+   * @param maxElements the maximum number of elements to remove
+   * @return the number of elements handed to the consumer
+   * @throws IllegalArgumentException if maxElements is negative
+   */
+  @SuppressWarnings("unchecked")
+  public int drainTo(Consumer<? super T> consumer, int maxElements) {
+    Objects.requireNonNull(consumer);
+    if (maxElements < 0) {
+      throw new IllegalArgumentException("Max elements must not be negative: " + maxElements);
+    }
+    Object[] batch;
+    lock.lock();
+    try {
+      int count = Math.min(maxElements, list.size());
+      batch = new Object[count];
+      for (int i = 0; i < count; i++) {
+        batch[i] = list.removeFirst();
+      }
+      if (count > 0) {
+        notFull.signalAll();
+      }
+    } finally {
+      lock.unlock();
+    }
+    int handed = 0;
+    try {
+      while (handed < batch.length) {
+        consumer.accept((T) batch[handed++]);
+      }
+    } finally {
+      if (handed < batch.length) {
+        putBack(batch, handed);
+      }
+    }
+    return batch.length;
+  }
+
+  /**
+   * Returns the number of elements in the deque.
+   *
+   * @return the size of the deque
+   */
+  public int size() {
+    lock.lock();
+    try {
+      return list.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns how many more elements the deque can accept without blocking.
+   *
+   * @return the remaining capacity
+   */
+  public int remainingCapacity() {
+    lock.lock();
+    try {
+      return Math.max(0, capacity - list.size());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns {@code batch[from ..]} to the front of the deque, keeping their order.
+   */
+  @SuppressWarnings("unchecked")
+  private void putBack(Object[] batch, int from) {
+    lock.lock();
+    try {
+      for (int i = batch.length - 1; i >= from; i--) {
+        list.addFirst((T) batch[i]);
+      }
+      notEmpty.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns a string representation of the deque.
+   *
+   * @return a readable format of the deque contents
+   */
+  @Override
+  public String toString() {
+    lock.lock();
+    try {
+      StringBuilder builder = new StringBuilder("BlockingLinkedDeque{");
+      Iterator<T> iterator = list.iterator();
+      while (iterator.hasNext()) {
+        builder.append(iterator.next());
+        if (iterator.hasNext()) {
+          builder.append(" <-> ");
+        }
+      }
+      builder.append("}");
+      return builder.toString();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+}
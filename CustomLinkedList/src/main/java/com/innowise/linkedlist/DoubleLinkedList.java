@@ -0,0 +1,340 @@
+package com.innowise.linkedlist;
+
+/**
+ * A doubly linked list specialized for {@code double} values. It offers the same operations as
+ * {@link LinkedList} but stores each value directly in its node, so no {@link Double} objects are
+ * allocated and no unboxing happens on access, comparison or hashing.
+ */
+
+public class DoubleLinkedList {
+
+  private Node head;
+  private Node tail;
+  private int size = 0;
+
+  /**
+   * Inserts the specified value at the beginning of the list.
+   *
+   * @param value the value to insert
+   */
+  public void addFirst(double value) {
+    Node newNode = new Node(value);
+    newNode.next = head;
+    if (head != null) {
+      head.prev = newNode;
+    } else {
+      tail = newNode;
+    }
+    head = newNode;
+    size++;
+  }
+
+  /**
+   * Inserts the specified value at the end of the list.
+   *
+   * @param value the value to insert
+   */
+  public void addLast(double value) {
+    Node newNode = new Node(value);
+    if (tail == null) {
+      head = tail = newNode;
+    } else {
+      tail.next = newNode;
+      newNode.prev = tail;
+      tail = newNode;
+    }
+    size++;
+  }
+
+  /**
+   * Inserts the specified value at the given index.
+   *
+   * @param index the position to insert at
+   * @param value the value to insert
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  public void add(int index, double value) {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (index == 0) {
+      addFirst(value);
+      return;
+    }
+    if (index == size) {
+      addLast(value);
+      return;
+    }
+
+    Node nodeAfter = node(index);
+    Node newNode = new Node(value);
+    Node nodeBefore = nodeAfter.prev;
+
+    newNode.prev = nodeBefore;
+    newNode.next = nodeAfter;
+
+    nodeBefore.next = newNode;
+    nodeAfter.prev = newNode;
+    size++;
+  }
+
+  /**
+   * Returns the value at the specified index.
+   *
+   * @param index the position to retrieve
+   * @return the value at the given index
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  public double get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException();
+    }
+    return node(index).value;
+  }
+
+  /**
+   * Returns the first element in the list.
+   *
+   * @return the first value
+   * @throws IllegalStateException if the list is empty
+   */
+  public double getFirst() {
+    if (head == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    return head.value;
+  }
+
+  /**
+   * Returns the last element in the list.
+   *
+   * @return the last value
+   * @throws IllegalStateException if the list is empty
+   */
+  public double getLast() {
+    if (tail == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    return tail.value;
+  }
+
+  /**
+   * Removes the element at the specified index.
+   *
+   * @param index the position to remove
+   * @return the removed value
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  public double remove(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (index == 0) {
+      return removeFirst();
+    }
+    if (index == size - 1) {
+      return removeLast();
+    }
+
+    Node currentNode = node(index);
+    Node previousNode = currentNode.prev;
+    Node nextNode = currentNode.next;
+
+    previousNode.next = nextNode;
+    nextNode.prev = previousNode;
+
+    currentNode.next = null;
+    currentNode.prev = null;
+    size--;
+
+    return currentNode.value;
+  }
+
+  /**
+   * Removes and returns the first element in the list.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty
+   */
+  public double removeFirst() {
+    if (head == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    double value = head.value;
+    Node nodeToRemove = head;
+    head = head.next;
+    if (head != null) {
+      head.prev = null;
+    } else {
+      tail = null;
+    }
+
+    nodeToRemove.next = null;
+    nodeToRemove.prev = null;
+    size--;
+    return value;
+  }
+
+  /**
+   * Removes and returns the last element in the list.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty
+   */
+  public double removeLast() {
+    if (tail == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    double value = tail.value;
+    Node nodeToRemove = tail;
+    tail = tail.prev;
+    if (tail != null) {
+      tail.next = null;
+    } else {
+      head = null;
+    }
+
+    nodeToRemove.next = null;
+    nodeToRemove.prev = null;
+    size--;
+    return value;
+  }
+
+  /**
+   * Returns the number of elements in the list.
+   *
+   * @return the size of the list
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Copies the elements of the list into a new array, from first to last.
+   *
+   * @return an array holding every value in list order
+   */
+  public double[] toArray() {
+    double[] values = new double[size];
+    int i = 0;
+    for (Node currentNode = head; currentNode != null; currentNode = currentNode.next) {
+      values[i++] = currentNode.value;
+    }
+    return values;
+  }
+
+  /**
+   * Compares this list to another for equality based on element values. Values are compared
+   * like {@link Double#equals(Object)}, so {@code NaN} equals itself and {@code 0.0} differs
+   * from {@code -0.0}.
+   *
+   * @param o the object to compare with
+   * @return true if both lists contain the same elements in order
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof DoubleLinkedList that) || size != that.size) {
+      return false;
+    }
+
+    Node nodeA = this.head;
+    Node nodeB = that.head;
+
+    while (nodeA != null) {
+      if (Double.doubleToLongBits(nodeA.value) != Double.doubleToLongBits(nodeB.value)) {
+        return false;
+      }
+      nodeA = nodeA.next;
+      nodeB = nodeB.next;
+    }
+    return true;
+  }
+
+  /**
+   * Returns a hash code based on the list's contents, equal to the hash code of a
+   * {@link LinkedList} holding the same boxed values.
+   *
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    int result = 1;
+    Node currentNode = head;
+    while (currentNode != null) {
+      result = 31 * result + Double.hashCode(currentNode.value);
+      currentNode = currentNode.next;
+    }
+    return result;
+  }
+
+  /**
+   * Returns a string representation of the list.
+   *
+   * @return a readable format of the list contents
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("DoubleLinkedList{");
+    Node currentNode = head;
+    while (currentNode != null) {
+      builder.append(currentNode.value);
+      if (currentNode.next != null) {
+        builder.append(" <-> ");
+      }
+      currentNode = currentNode.next;
+    }
+    builder.append("}");
+    return builder.toString();
+  }
+
+  /**
+   * Returns the node at the given index, walking from the closer end of the list.
+   */
+  private Node node(int index) {
+    Node currentNode;
+    if (index < size / 2) {
+      currentNode = head;
+      for (int i = 0; i < index; i++) {
+        currentNode = currentNode.next;
+      }
+    } else {
+      currentNode = tail;
+      for (int i = size - 1; i > index; i--) {
+        currentNode = currentNode.prev;
+      }
+    }
+    return currentNode;
+  }
+
+  /**
+   * Internal node class holding an unboxed value and its links.
+   */
+  private static class Node {
+
+    /**
+     * The value stored in this node.
+     */
+    private final double value;
+    /**
+     * Reference to the next node.
+     */
+    private Node next;
+    /**
+     * Reference to the previous node.
+     */
+    private Node prev;
+
+    Node(double value) {
+      this.value = value;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+
+  }
+}
@@ -0,0 +1,125 @@
+package com.innowise.linkedlist;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts values to and from a fixed number of bytes so that they can be stored outside the Java
+ * heap. Implementations use absolute {@link ByteBuffer} access and must not change the buffer's
+ * position or limit. Every fixed-width codec is also a {@link ValueCodec} whose encoded length is
+ * always {@link #width()}.
+ *
+ * @param <T> the type of value handled by the codec
+ */
+public interface FixedWidthCodec<T> extends ValueCodec<T> {
+
+  /**
+   * Codec for {@link Integer} values, 4 bytes each.
+   */
+  FixedWidthCodec<Integer> INT = new FixedWidthCodec<>() {
+    @Override
+    public int width() {
+      return Integer.BYTES;
+    }
+
+    @Override
+    public void write(ByteBuffer target, int offset, Integer value) {
+      target.putInt(offset, value);
+    }
+
+    @Override
+    public Integer read(ByteBuffer source, int offset) {
+      return source.getInt(offset);
+    }
+  };
+
+  /**
+   * Codec for {@link Long} values, 8 bytes each.
+   */
+  FixedWidthCodec<Long> LONG = new FixedWidthCodec<>() {
+    @Override
+    public int width() {
+      return Long.BYTES;
+    }
+
+    @Override
+    public void write(ByteBuffer target, int offset, Long value) {
+      target.putLong(offset, value);
+    }
+
+    @Override
+    public Long read(ByteBuffer source, int offset) {
+      return source.getLong(offset);
+    }
+  };
+
+  /**
+   * Codec for {@link Double} values, 8 bytes each.
+   */
+  FixedWidthCodec<Double> DOUBLE = new FixedWidthCodec<>() {
+    @Override
+    public int width() {
+      return Double.BYTES;
+    }
+
+    @Override
+    public void write(ByteBuffer target, int offset, Double value) {
+      target.putDouble(offset, value);
+    }
+
+    @Override
+    public Double read(ByteBuffer source, int offset) {
+      return source.getDouble(offset);
+    }
+  };
+
+  /**
+   * Returns the number of bytes every encoded value occupies.
+   *
+   * @return the encoded width in bytes, always positive
+   */
+  int width();
+
+  /**
+   * Encodes a value into {@code target} starting at {@code offset}.
+   *
+   * @param target the buffer to write to
+   * @param offset the absolute index of the first byte
+   * @param value  the value to encode
+   */
+  @Override
+  void write(ByteBuffer target, int offset, T value);
+
+  /**
+   * Decodes a value from {@code source} starting at {@code offset}.
+   *
+   * @param source the buffer to read from
+   * @param offset the absolute index of the first byte
+   * @return the decoded value
+   */
+  T read(ByteBuffer source, int offset);
+
+  /**
+   * Returns {@link #width()}, since every value has the same encoded length.
+   *
+   * @param value the value to measure
+   * @return the encoded width in bytes
+   */
+  @Override
+  default int sizeOf(T value) {
+    return width();
+  }
+
+  /**
+   * Decodes a value, ignoring {@code length} because it always equals {@link #width()}.
+   *
+   * @param source the buffer to read from
+   * @param offset the absolute index of the first byte
+   * @param length the encoded length
+   * @return the decoded value
+   */
+  @Override
+  default T read(ByteBuffer source, int offset, int length) {
+    return read(source, offset);
+  }
+
+}
@@ -0,0 +1,422 @@
+package com.innowise.linkedlist;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A list backed by an AVL tree ordered by position instead of by value. Every tree node records
+ * the number of elements in its subtree, so the node at any index is found by a single descent
+ * from the root. Positional access, insertion and removal therefore take O(log n) time anywhere
+ * in the list, where {@link LinkedList} has to walk up to n / 2 nodes.
+ *
+ * <p>The public API mirrors {@link LinkedList}. Iterators are fail-fast.
+ *
+ * @param <T> the type of elements stored in the list
+ */
+
+public class IndexedTreeList<T> implements Iterable<T> {
+
+  private Node<T> root;
+  private int modCount = 0;
+  /**
+   * Value of the node unlinked by the last {@link #delete}, handed back to {@link #remove(int)} so
+   * that removal needs only one descent.
+   */
+  private T removed;
+
+  /**
+   * Inserts the specified value at the beginning of the list.
+   *
+   * @param value the value to insert
+   */
+  public void addFirst(T value) {
+    add(0, value);
+  }
+
+  /**
+   * Inserts the specified value at the end of the list.
+   *
+   * @param value the value to insert
+   */
+  public void addLast(T value) {
+    add(size(), value);
+  }
+
+  /**
+   * Inserts the specified value at the given index.
+   *
+   * @param index the position to insert at
+   * @param value the value to insert
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  public void add(int index, T value) {
+    if (index < 0 || index > size()) {
+      throw new IndexOutOfBoundsException();
+    }
+    root = insert(root, index, value);
+    modCount++;
+  }
+
+  /**
+   * Returns the value at the specified index.
+   *
+   * @param index the position to retrieve
+   * @return the value at the given index
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  public T get(int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException();
+    }
+    return node(index).value;
+  }
+
+  /**
+   * Returns the first element in the list.
+   *
+   * @return the first value
+   * @throws IllegalStateException if the list is empty
+   */
+  public T getFirst() {
+    if (root == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    return first(root).value;
+  }
+
+  /**
+   * Returns the last element in the list.
+   *
+   * @return the last value
+   * @throws IllegalStateException if the list is empty
+   */
+  public T getLast() {
+    if (root == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    Node<T> node = root;
+    while (node.right != null) {
+      node = node.right;
+    }
+    return node.value;
+  }
+
+  /**
+   * Removes the element at the specified index.
+   *
+   * @param index the position to remove
+   * @return the removed value
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  public T remove(int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException();
+    }
+    root = delete(root, index);
+    modCount++;
+    T value = removed;
+    removed = null;
+    return value;
+  }
+
+  /**
+   * Removes and returns the first element in the list.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty
+   */
+  public T removeFirst() {
+    if (root == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    return remove(0);
+  }
+
+  /**
+   * Removes and returns the last element in the list.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty
+   */
+  public T removeLast() {
+    if (root == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    return remove(size() - 1);
+  }
+
+  /**
+   * Returns the number of elements in the list.
+   *
+   * @return the size of the list
+   */
+  public int size() {
+    return size(root);
+  }
+
+  /**
+   * Returns an iterator over the elements in this list from first to last. It walks the tree in
+   * order, keeping the path from the root on a stack, and fails fast on concurrent modification.
+   *
+   * @return an iterator that does not support removal
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<>() {
+      private final Deque<Node<T>> path = new ArrayDeque<>();
+      private final int expectedModCount = modCount;
+
+      {
+        pushLeftSpine(root);
+      }
+
+      @Override
+      public boolean hasNext() {
+        return !path.isEmpty();
+      }
+
+      @Override
+      public T next() {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (path.isEmpty()) {
+          throw new NoSuchElementException();
+        }
+        Node<T> node = path.pop();
+        pushLeftSpine(node.right);
+        return node.value;
+      }
+
+      private void pushLeftSpine(Node<T> node) {
+        for (; node != null; node = node.left) {
+          path.push(node);
+        }
+      }
+    };
+  }
+
+  /**
+   * Compares this list to another for equality based on element values.
+   *
+   * @param o the object to compare with
+   * @return true if both lists contain the same elements in order
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof IndexedTreeList<?> that) || size() != that.size()) {
+      return false;
+    }
+    Iterator<?> iterator = that.iterator();
+    for (T value : this) {
+      if (!Objects.equals(value, iterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns a hash code based on the list's contents.
+   *
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    int result = 1;
+    for (T value : this) {
+      result = 31 * result + Objects.hashCode(value);
+    }
+    return result;
+  }
+
+  /**
+   * Returns a string representation of the list.
+   *
+   * @return a readable format of the list contents
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("IndexedTreeList{");
+    Iterator<T> iterator = iterator();
+    while (iterator.hasNext()) {
+      builder.append(iterator.next());
+      if (iterator.hasNext()) {
+        builder.append(" <-> ");
+      }
+    }
+    builder.append("}");
+    return builder.toString();
+  }
+
+  /**
+   * Returns the height of the tree, for checking that it stays balanced.
+   */
+  int height() {
+    return height(root);
+  }
+
+  /**
+   * Descends from the root to the node at {@code index}, choosing a side by the size of the
+   * left subtree.
+   */
+  private Node<T> node(int index) {
+    Node<T> node = root;
+    while (true) {
+      int leftSize = size(node.left);
+      if (index < leftSize) {
+        node = node.left;
+      } else if (index == leftSize) {
+        return node;
+      } else {
+        index -= leftSize + 1;
+        node = node.right;
+      }
+    }
+  }
+
+  private Node<T> insert(Node<T> node, int index, T value) {
+    if (node == null) {
+      return new Node<>(value);
+    }
+    int leftSize = size(node.left);
+    if (index <= leftSize) {
+      node.left = insert(node.left, index, value);
+    } else {
+      node.right = insert(node.right, index - leftSize - 1, value);
+    }
+    return rebalance(node);
+  }
+
+  /**
+   * Unlinks the node at {@code index} from the subtree and stores its value in {@link #removed}.
+   */
+  private Node<T> delete(Node<T> node, int index) {
+    int leftSize = size(node.left);
+    if (index < leftSize) {
+      node.left = delete(node.left, index);
+    } else if (index > leftSize) {
+      node.right = delete(node.right, index - leftSize - 1);
+    } else if (node.left == null) {
+      removed = node.value;
+      return node.right;
+    } else if (node.right == null) {
+      removed = node.value;
+      return node.left;
+    } else {
+      T value = node.value;
+      node.value = first(node.right).value;
+      node.right = delete(node.right, 0);
+      removed = value;
+    }
+    return rebalance(node);
+  }
+
+  /**
+   * Refreshes the height and size of {@code node} and restores the AVL balance with one or two
+   * rotations when its subtrees differ in height by more than one.
+   *
+   * @return the root of the rebalanced subtree
+   */
+  private static <T> Node<T> rebalance(Node<T> node) {
+    update(node);
+    int balance = height(node.left) - height(node.right);
+    if (balance > 1) {
+      if (height(node.left.left) < height(node.left.right)) {
+        node.left = rotateLeft(node.left);
+      }
+      return rotateRight(node);
+    }
+    if (balance < -1) {
+      if (height(node.right.right) < height(node.right.left)) {
+        node.right = rotateRight(node.right);
+      }
+      return rotateLeft(node);
+    }
+    return node;
+  }
+
+  private static <T> Node<T> rotateLeft(Node<T> node) {
+    Node<T> pivot = node.right;
+    node.right = pivot.left;
+    pivot.left = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  private static <T> Node<T> rotateRight(Node<T> node) {
+    Node<T> pivot = node.left;
+    node.left = pivot.right;
+    pivot.right = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  private static void update(Node<?> node) {
+    node.height = Math.max(height(node.left), height(node.right)) + 1;
+    node.size = size(node.left) + size(node.right) + 1;
+  }
+
+  private static <T> Node<T> first(Node<T> node) {
+    while (node.left != null) {
+      node = node.left;
+    }
+    return node;
+  }
+
+  private static int height(Node<?> node) {
+    return node == null ? 0 : node.height;
+  }
+
+  private static int size(Node<?> node) {
+    return node == null ? 0 : node.size;
+  }
+
+  /**
+   * Tree node holding one element and the height and size of its subtree.
+   *
+   * @param <T> the type of value stored
+   */
+  private static class Node<T> {
+
+    /**
+     * The value stored in this node.
+     */
+    private T value;
+    /**
+     * Subtree holding the elements before this one.
+     */
+    private Node<T> left;
+    /**
+     * Subtree holding the elements after this one.
+     */
+    private Node<T> right;
+    /**
+     * Height of the subtree rooted at this node.
+     */
+    private int height = 1;
+    /**
+     * Number of elements in the subtree rooted at this node.
+     */
+    private int size = 1;
+
+    private Node(T value) {
+      this.value = value;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+
+  }
+}
@@ -1,28 +1,157 @@
 package com.innowise.linkedlist;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A custom implementation of a doubly linked list. Supports insertion, deletion, search, and
  * indexed access. This list maintains references to both head and tail nodes, allowing efficient
- * operations at both ends.
+ * operations at both ends. Iterators returned by this list are fail-fast: a structural change
+ * made other than through the iterator itself causes a {@link ConcurrentModificationException}.
  *
  * @param <T> the type of elements stored in the list
  */
 
-public class LinkedList<T> {
+public class LinkedList<T> implements Iterable<T> {
+
+  /**
+   * Marks the start of a list written by {@link #writeTo(WritableByteChannel, ValueCodec)}.
+   */
+  private static final int STREAM_MAGIC = 0x4C4C5331;
+  /**
+   * Size of the transfer buffer used for binary serialization.
+   */
+  private static final int STREAM_BUFFER_SIZE = 1 << 16;
+  /**
+   * Length prefix that stands for a null element.
+   */
+  private static final int NULL_LENGTH = -1;
+  /**
+   * Segment length below which {@link #parallelSort(Comparator)} sorts sequentially.
+   */
+  private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
 
   private Node<T> head;
   private Node<T> tail;
   private int size = 0;
 
+  /**
+   * Node touched by the most recent indexed operation, used as an additional starting point for
+   * the next lookup so that sequential index access does not walk from an end every time.
+   * A {@code null} finger means no position is remembered.
+   */
+  private Node<T> finger;
+  private int fingerIndex;
+
+  /**
+   * Number of structural modifications, checked by iterators to detect concurrent changes.
+   */
+  private int modCount = 0;
+
+  /**
+   * Collects traversal and modification counters when instrumentation is enabled; null
+   * otherwise, which reduces the bookkeeping to a single field check.
+   */
+  private LinkedListStats stats;
+
+  /**
+   * Generation of the most recent snapshot, where the pre-write state of nodes is saved. Held
+   * weakly so that the saved state is dropped together with the last snapshot that needs it.
+   * Null until the first {@link #snapshot()}, so that lists without snapshots pay nothing but
+   * this check on writes.
+   */
+  private WeakReference<Generation> latestGeneration;
+  /**
+   * Generations of snapshots taken of other lists whose nodes were moved into this list by
+   * {@link #splice(LinkedList)} or {@link #splitAt(int)}; null when there are none.
+   */
+  private List<WeakReference<Generation>> inheritedGenerations;
+
+  /**
+   * Optional map from value to the node(s) holding it, kept up to date by every insertion and
+   * removal; null unless enabled with {@link #enableValueIndex()}.
+   */
+  private ValueIndex<T> valueIndex;
+
+  /**
+   * Optional free list of recycled nodes, chained through {@code next}. Pooling is disabled when
+   * {@code poolCapacity} is zero.
+   */
+  private final int poolCapacity;
+  private Node<T> pool;
+  private int pooledNodes;
+  private long poolHits;
+  private long poolMisses;
+
+  /**
+   * Creates an empty list without node pooling.
+   */
+  public LinkedList() {
+    this(0);
+  }
+
+  /**
+   * Creates an empty list that keeps up to {@code poolCapacity} removed nodes for reuse, so that
+   * steady queue-like traffic ({@code addLast} followed by {@code removeFirst}) stops allocating.
+   *
+   * @param poolCapacity the maximum number of recycled nodes to keep, or zero to disable pooling
+   * @throws IllegalArgumentException if {@code poolCapacity} is negative
+   */
+  public LinkedList(int poolCapacity) {
+    if (poolCapacity < 0) {
+      throw new IllegalArgumentException("Pool capacity must not be negative: " + poolCapacity);
+    }
+    this.poolCapacity = poolCapacity;
+  }
+
   /**
    * Inserts the specified value at the beginning of the list.
    *
    * @param value the value to insert
    */
   public void addFirst(T value) {
-    Node<T> newNode = new Node<>(value);
+    linkFirst(value);
+  }
+
+  /**
+   * Inserts {@code value} at the beginning of the list and returns its node. The node stays a
+   * valid handle for {@link #moveToFirst(Node)} and {@link #unlink(Node)} until it is removed.
+   *
+   * @param value the value to insert
+   * @return the new first node
+   */
+  Node<T> linkFirst(T value) {
+    Node<T> newNode = newNode(value);
+    if (valueIndex != null) {
+      valueIndex.add(newNode);
+    }
     newNode.next = head;
     if (head != null) {
       head.prev = newNode;
@@ -30,7 +159,12 @@ public class LinkedList<T> {
       tail = newNode;
     }
     head = newNode;
+    if (finger != null) {
+      fingerIndex++;
+    }
     size++;
+    modified();
+    return newNode;
   }
 
   /**
@@ -39,15 +173,20 @@ public class LinkedList<T> {
    * @param value the value to insert
    */
   public void addLast(T value) {
-    Node<T> newNode = new Node<>(value);
+    Node<T> newNode = newNode(value);
+    if (valueIndex != null) {
+      valueIndex.add(newNode);
+    }
     if (tail == null) {
       head = tail = newNode;
     } else {
+      prepareWrite(tail);
       tail.next = newNode;
       newNode.prev = tail;
       tail = newNode;
     }
     size++;
+    modified();
   }
 
   /**
@@ -61,6 +200,9 @@ public class LinkedList<T> {
     if (index < 0 || index > size) {
       throw new IndexOutOfBoundsException();
     }
+    if ((index == 0 || index == size) && stats != null) {
+      stats.recordIndexedAccess(index, size, 0);
+    }
     if (index == 0) {
       addFirst(value);
       return;
@@ -70,28 +212,7 @@ public class LinkedList<T> {
       return;
     }
 
-    Node<T> nodeAfter;
-    if (index < size / 2) {
-      nodeAfter = head;
-      for (int i = 0; i < index; i++) {
-        nodeAfter = nodeAfter.next;
-      }
-    } else {
-      nodeAfter = tail;
-      for (int i = size - 1; i > index; i--) {
-        nodeAfter = nodeAfter.prev;
-      }
-    }
-
-    Node<T> newNode = new Node<>(value);
-    Node<T> nodeBefore = nodeAfter.prev;
-
-    newNode.prev = nodeBefore;
-    newNode.next = nodeAfter;
-
-    nodeBefore.next = newNode;
-    nodeAfter.prev = newNode;
-    size++;
+    linkBefore(value, node(index), index);
   }
 
   /**
@@ -105,19 +226,7 @@ public class LinkedList<T> {
     if (index < 0 || index >= size()) {
       throw new IndexOutOfBoundsException();
     }
-    Node<T> currentNode;
-    if (index < size / 2) {
-      currentNode = head;
-      for (int i = 0; i < index; i++) {
-        currentNode = currentNode.next;
-      }
-    } else {
-      currentNode = tail;
-      for (int i = size - 1; i > index; i--) {
-        currentNode = currentNode.prev;
-      }
-    }
-    return currentNode.value;
+    return node(index).value;
   }
 
   /**
@@ -157,6 +266,9 @@ public class LinkedList<T> {
     if (index < 0 || index >= size) {
       throw new IndexOutOfBoundsException();
     }
+    if ((index == 0 || index == size - 1) && stats != null) {
+      stats.recordIndexedAccess(index, size, 0);
+    }
     if (index == 0) {
       return removeFirst();
     }
@@ -164,30 +276,7 @@ public class LinkedList<T> {
       return removeLast();
     }
 
-    Node<T> currentNode;
-    if (index < size / 2) {
-      currentNode = head;
-      for (int i = 0; i < index; i++) {
-        currentNode = currentNode.next;
-      }
-    } else {
-      currentNode = tail;
-      for (int i = size - 1; i > index; i--) {
-        currentNode = currentNode.prev;
-      }
-    }
-
-    Node<T> previousNode = currentNode.prev;
-    Node<T> nextNode = currentNode.next;
-
-    previousNode.next = nextNode;
-    nextNode.prev = previousNode;
-
-    currentNode.next = null;
-    currentNode.prev = null;
-    size--;
-
-    return currentNode.value;
+    return unlink(node(index), index);
   }
 
   /**
@@ -208,10 +297,15 @@ public class LinkedList<T> {
     } else {
       tail = null;
     }
+    if (finger == nodeToRemove) {
+      finger = head;
+    } else if (finger != null) {
+      fingerIndex--;
+    }
 
-    nodeToRemove.next = null;
-    nodeToRemove.prev = null;
+    recycle(nodeToRemove);
     size--;
+    modified();
     return value;
   }
 
@@ -229,89 +323,1975 @@ public class LinkedList<T> {
     Node<T> nodeToRemove = tail;
     tail = tail.prev;
     if (tail != null) {
+      prepareWrite(tail);
       tail.next = null;
     } else {
       head = null;
     }
+    if (finger == nodeToRemove) {
+      finger = tail;
+      fingerIndex = size - 2;
+    }
 
-    nodeToRemove.next = null;
-    nodeToRemove.prev = null;
+    recycle(nodeToRemove);
     size--;
+    modified();
     return value;
   }
 
   /**
-   * Returns the number of elements in the list.
+   * Moves {@code node} to the beginning of the list in constant time. The node's index is not
+   * known, so the finger is dropped.
    *
-   * @return the size of the list
+   * @param node a node of this list, as returned by {@link #linkFirst(Object)}
    */
-  public int size() {
-    return size;
+  void moveToFirst(Node<T> node) {
+    if (node == head) {
+      return;
+    }
+    Node<T> previousNode = node.prev;
+    Node<T> nextNode = node.next;
+    prepareWrite(previousNode);
+    previousNode.next = nextNode;
+    if (nextNode == null) {
+      tail = previousNode;
+    } else {
+      nextNode.prev = previousNode;
+    }
+    prepareWrite(node);
+    node.prev = null;
+    node.next = head;
+    head.prev = node;
+    head = node;
+    finger = null;
+    modified();
   }
 
   /**
-   * Compares this list to another for equality based on element values.
+   * Removes {@code node} from the list in constant time. The node's index is not known, so the
+   * finger is dropped.
    *
-   * @param o the object to compare with
-   * @return true if both lists contain the same elements in order
+   * @param node a node of this list, as returned by {@link #linkFirst(Object)}
+   * @return the removed value
    */
-  @Override
-  public boolean equals(Object o) {
-    if (this == o) {
-      return true;
+  T unlink(Node<T> node) {
+    T value = unlink(node, 0);
+    finger = null;
+    return value;
+  }
+
+  /**
+   * Appends every element of the array in order. The new nodes are linked into a chain first and
+   * attached to the tail in one step.
+   *
+   * @param values the values to append
+   */
+  public void addAll(T[] values) {
+    Node<T> first = null;
+    Node<T> last = null;
+    for (T value : values) {
+      Node<T> newNode = newNode(value);
+      if (last == null) {
+        first = newNode;
+      } else {
+        last.next = newNode;
+        newNode.prev = last;
+      }
+      last = newNode;
     }
-    if (!(o instanceof LinkedList<?> that)) {
-      return false;
+    appendChain(first, last, values.length);
+  }
+
+  /**
+   * Appends every element of the iterable in iteration order. The new nodes are linked into a
+   * chain first and attached to the tail in one step, so a list may append its own contents.
+   *
+   * @param values the values to append
+   */
+  public void addAll(Iterable<? extends T> values) {
+    Node<T> first = null;
+    Node<T> last = null;
+    int count = 0;
+    for (T value : values) {
+      Node<T> newNode = newNode(value);
+      if (last == null) {
+        first = newNode;
+      } else {
+        last.next = newNode;
+        newNode.prev = last;
+      }
+      last = newNode;
+      count++;
     }
+    appendChain(first, last, count);
+  }
 
-    Node<T> nodeA = this.head;
-    Node<?> nodeB = that.head;
+  /**
+   * Moves all elements of {@code other} to the end of this list in constant time by relinking
+   * the two chains. {@code other} is left empty.
+   *
+   * @param other the list whose elements are moved
+   * @throws IllegalArgumentException if {@code other} is this list
+   */
+  public void splice(LinkedList<T> other) {
+    if (other == this) {
+      throw new IllegalArgumentException("Cannot splice a list into itself");
+    }
+    int count = other.size;
+    Node<T> first = other.head;
+    Node<T> last = other.tail;
+    inheritGenerations(other);
+    other.detachAll();
+    appendChain(first, last, count);
+  }
 
-    while (nodeA != null && nodeB != null) {
-      if (!Objects.equals(nodeA.value, nodeB.value)) {
-        return false;
-      }
-      nodeA = nodeA.next;
-      nodeB = nodeB.next;
+  /**
+   * Moves all elements of {@code other} into this list so that the first of them ends up at
+   * {@code index}. Apart from locating the insertion point this takes constant time.
+   * {@code other} is left empty.
+   *
+   * @param index the position to insert at
+   * @param other the list whose elements are moved
+   * @throws IndexOutOfBoundsException if index is out of range
+   * @throws IllegalArgumentException  if {@code other} is this list
+   */
+  public void splice(int index, LinkedList<T> other) {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (other == this) {
+      throw new IllegalArgumentException("Cannot splice a list into itself");
     }
+    if (index == size) {
+      splice(other);
+      return;
+    }
+    int count = other.size;
+    if (count == 0) {
+      return;
+    }
+    Node<T> nodeAfter = node(index);
+    Node<T> nodeBefore = nodeAfter.prev;
+    Node<T> first = other.head;
+    Node<T> last = other.tail;
+    inheritGenerations(other);
+    other.detachAll();
 
-    return nodeA == null && nodeB == null;
+    first.prev = nodeBefore;
+    prepareWrite(last);
+    last.next = nodeAfter;
+    nodeAfter.prev = last;
+    if (nodeBefore == null) {
+      head = first;
+    } else {
+      prepareWrite(nodeBefore);
+      nodeBefore.next = first;
+    }
+    if (valueIndex != null) {
+      valueIndex.addAll(first, nodeAfter);
+    }
+    fingerIndex = index + count;
+    size += count;
+    modified();
   }
 
   /**
-   * Returns a hash code based on the list's contents.
+   * Splits this list at {@code index}: elements from {@code index} onwards are moved, in constant
+   * time apart from locating the split point, into a new list that is returned. This list keeps
+   * the elements before {@code index}. The new list uses the same node pool capacity.
    *
-   * @return the hash code
+   * @param index the index of the first element to move
+   * @return a new list holding the tail part
+   * @throws IndexOutOfBoundsException if index is out of range
    */
-  @Override
-  public int hashCode() {
-    int result = 1;
-    Node<T> currentNode = head;
-    while (currentNode != null) {
-      result = 31 * result + Objects.hashCode(currentNode.value);
-      currentNode = currentNode.next;
+  public LinkedList<T> splitAt(int index) {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException();
     }
-    return result;
+    LinkedList<T> suffix = new LinkedList<>(poolCapacity);
+    if (index == size) {
+      return suffix;
+    }
+    suffix.inheritGenerations(this);
+    Node<T> first = node(index);
+    Node<T> last = tail;
+    Node<T> nodeBefore = first.prev;
+    int count = size - index;
+    if (valueIndex != null) {
+      valueIndex.removeAll(first, null);
+    }
+
+    first.prev = null;
+    tail = nodeBefore;
+    if (nodeBefore == null) {
+      head = null;
+      finger = null;
+    } else {
+      prepareWrite(nodeBefore);
+      nodeBefore.next = null;
+      finger = nodeBefore;
+      fingerIndex = index - 1;
+    }
+    size = index;
+    modified();
+
+    suffix.appendChain(first, last, count);
+    return suffix;
   }
 
   /**
-   * Returns a string representation of the list.
+   * Removes every element that matches {@code filter} in a single pass over the list. Each
+   * matching node is unlinked as soon as it is found, so the list stays consistent even if the
+   * filter throws part-way through.
    *
-   * @return a readable format of the list contents
+   * @param filter the predicate selecting the elements to remove
+   * @return true if any element was removed
    */
-  @Override
-  public String toString() {
-    StringBuilder builder = new StringBuilder("LinkedList{");
+  public boolean removeIf(Predicate<? super T> filter) {
+    Objects.requireNonNull(filter);
+    int removed = 0;
+    Node<T> lastKept = null;
     Node<T> currentNode = head;
-    while (currentNode != null) {
-      builder.append(currentNode.value);
-      if (currentNode.next != null) {
-        builder.append(" <-> ");
+    try {
+      while (currentNode != null) {
+        Node<T> nextNode = currentNode.next;
+        if (filter.test(currentNode.value)) {
+          if (lastKept == null) {
+            head = nextNode;
+          } else {
+            prepareWrite(lastKept);
+            lastKept.next = nextNode;
+          }
+          if (nextNode == null) {
+            tail = lastKept;
+          } else {
+            nextNode.prev = lastKept;
+          }
+          recycle(currentNode);
+          size--;
+          removed++;
+        } else {
+          lastKept = currentNode;
+        }
+        currentNode = nextNode;
+      }
+    } finally {
+      if (removed > 0) {
+        finger = null;
+        modified();
       }
-      currentNode = currentNode.next;
     }
-    builder.append("}");
-    return builder.toString();
+    return removed > 0;
+  }
+
+  /**
+   * Keeps only the elements contained in {@code values}, removing all others in a single pass.
+   *
+   * @param values the elements to keep
+   * @return true if any element was removed
+   */
+  public boolean retainAll(Collection<?> values) {
+    Objects.requireNonNull(values);
+    return removeIf(value -> !values.contains(value));
+  }
+
+  /**
+   * Removes the elements from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive. Only
+   * the two boundary nodes are located and relinked; the removed nodes are walked only to refill
+   * the node pool or to drop them from the value index.
+   *
+   * @param fromIndex the index of the first element to remove
+   * @param toIndex   the index after the last element to remove
+   * @throws IndexOutOfBoundsException if the range is out of bounds or {@code fromIndex} is
+   *                                   greater than {@code toIndex}
+   */
+  public void removeRange(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (fromIndex == toIndex) {
+      return;
+    }
+    Node<T> first = node(fromIndex);
+    Node<T> last = node(toIndex - 1);
+    Node<T> nodeBefore = first.prev;
+    Node<T> nodeAfter = last.next;
+
+    if (nodeBefore == null) {
+      head = nodeAfter;
+    } else {
+      prepareWrite(nodeBefore);
+      nodeBefore.next = nodeAfter;
+    }
+    if (nodeAfter == null) {
+      tail = nodeBefore;
+    } else {
+      nodeAfter.prev = nodeBefore;
+    }
+    if (nodeBefore != null) {
+      finger = nodeBefore;
+      fingerIndex = fromIndex - 1;
+    } else {
+      finger = nodeAfter;
+      fingerIndex = 0;
+    }
+
+    Node<T> currentNode = first;
+    while (currentNode != nodeAfter && (pooledNodes < poolCapacity || valueIndex != null)) {
+      Node<T> nextNode = currentNode.next;
+      recycle(currentNode);
+      currentNode = nextNode;
+    }
+    size -= toIndex - fromIndex;
+    modified();
+  }
+
+  /**
+   * Sorts the list with a stable bottom-up merge sort that relinks the existing nodes in place:
+   * O(n log n) comparisons, no copy of the elements and no allocation per element. A null
+   * comparator sorts by natural ordering. If the comparator throws, the list keeps all of its
+   * elements in an unspecified order and the exception is rethrown.
+   *
+   * @param comparator the order to sort by, or null for natural ordering
+   * @throws ClassCastException if the comparator is null and the elements are not comparable
+   */
+  public void sort(Comparator<? super T> comparator) {
+    if (size < 2) {
+      return;
+    }
+    prepareAllForWrite();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    relinkSorted(sortChain(head, orderOf(comparator), failure), failure);
+  }
+
+  /**
+   * Sorts the list like {@link #sort(Comparator)}, but splits the chain into segments that are
+   * sorted on the common fork-join pool and then merged pairwise. Lists shorter than a few
+   * thousand elements are sorted sequentially.
+   *
+   * @param comparator the order to sort by, or null for natural ordering
+   * @throws ClassCastException if the comparator is null and the elements are not comparable
+   */
+  public void parallelSort(Comparator<? super T> comparator) {
+    if (size <= PARALLEL_SORT_THRESHOLD) {
+      sort(comparator);
+      return;
+    }
+    prepareAllForWrite();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    Node<T> first = ForkJoinPool.commonPool()
+        .invoke(new SortTask<>(head, size, orderOf(comparator), failure));
+    relinkSorted(first, failure);
+  }
+
+  /**
+   * Returns true if the list contains an element equal to {@code value}. Constant time when the
+   * value index is enabled, linear otherwise.
+   *
+   * @param value the value to look for, may be null
+   * @return whether the value is present
+   */
+  public boolean contains(Object value) {
+    if (valueIndex != null) {
+      return valueIndex.contains(value);
+    }
+    return indexOf(value) >= 0;
+  }
+
+  /**
+   * Returns the index of the first element equal to {@code value}. With the value index enabled
+   * an absent value is detected in constant time.
+   *
+   * @param value the value to look for, may be null
+   * @return the index of the first occurrence, or -1 if there is none
+   */
+  public int indexOf(Object value) {
+    if (valueIndex != null && !valueIndex.contains(value)) {
+      return -1;
+    }
+    int index = 0;
+    for (Node<T> currentNode = head; currentNode != null; currentNode = currentNode.next) {
+      if (Objects.equals(value, currentNode.value)) {
+        return index;
+      }
+      index++;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the last element equal to {@code value}, searching from the tail. With
+   * the value index enabled an absent value is detected in constant time.
+   *
+   * @param value the value to look for, may be null
+   * @return the index of the last occurrence, or -1 if there is none
+   */
+  public int lastIndexOf(Object value) {
+    if (valueIndex != null && !valueIndex.contains(value)) {
+      return -1;
+    }
+    int index = size - 1;
+    for (Node<T> currentNode = tail; currentNode != null; currentNode = currentNode.prev) {
+      if (Objects.equals(value, currentNode.value)) {
+        return index;
+      }
+      index--;
+    }
+    return -1;
+  }
+
+  /**
+   * Removes the first element equal to {@code value}. With the value index enabled this takes
+   * constant time when the value occurs once; a duplicated value is still searched from the head
+   * so that its first occurrence is the one removed.
+   *
+   * @param value the value to remove, may be null
+   * @return true if an element was removed
+   */
+  public boolean remove(Object value) {
+    if (valueIndex != null) {
+      Node<T> onlyNode = valueIndex.onlyNode(value);
+      if (onlyNode != null) {
+        // The position of the node is unknown, so the finger is dropped rather than moved.
+        unlink(onlyNode, 0);
+        finger = null;
+        return true;
+      }
+      if (!valueIndex.contains(value)) {
+        return false;
+      }
+    }
+    int index = 0;
+    for (Node<T> currentNode = head; currentNode != null; currentNode = currentNode.next) {
+      if (Objects.equals(value, currentNode.value)) {
+        unlink(currentNode, index);
+        return true;
+      }
+      index++;
+    }
+    return false;
+  }
+
+  /**
+   * Builds a hash index from values to the nodes holding them and keeps it up to date from then
+   * on, which makes {@link #contains(Object)} and {@link #remove(Object)} constant-time. The index
+   * costs roughly one hash map entry per distinct value (see {@link #valueIndexFootprint()}) and
+   * turns {@link #splice(LinkedList)} and {@link #splitAt(int)} into linear operations, since the
+   * moved nodes have to be indexed or dropped one by one. Does nothing if the index is already
+   * enabled.
+   */
+  public void enableValueIndex() {
+    if (valueIndex != null) {
+      return;
+    }
+    valueIndex = new ValueIndex<>();
+    valueIndex.addAll(head, null);
+  }
+
+  /**
+   * Drops the value index, releasing its memory.
+   */
+  public void disableValueIndex() {
+    valueIndex = null;
+  }
+
+  /**
+   * Returns an estimate of the heap memory taken by the value index, assuming compressed object
+   * references: the hash table, one map entry per distinct value and the node lists of
+   * duplicated values.
+   *
+   * @return the estimated size of the index in bytes, or zero if the index is disabled
+   */
+  public long valueIndexFootprint() {
+    return valueIndex == null ? 0 : valueIndex.footprint();
+  }
+
+  /**
+   * Copies the elements of the list into a new array, from first to last.
+   *
+   * @return an array holding every value in list order
+   */
+  public Object[] toArray() {
+    Object[] values = new Object[size];
+    int i = 0;
+    for (Node<T> currentNode = head; currentNode != null; currentNode = currentNode.next) {
+      values[i++] = currentNode.value;
+    }
+    return values;
+  }
+
+  /**
+   * Writes the list to {@code channel} in a compact binary form: a magic number and the element
+   * count, then every element as a 4-byte length prefix followed by the bytes produced by
+   * {@code codec}. Null elements are written as a length of {@code -1}. Values are streamed
+   * through a single fixed-size buffer, so only values larger than that buffer need extra memory.
+   *
+   * @param channel the channel to write to
+   * @param codec   the codec used to encode values
+   * @throws IOException if writing to the channel fails
+   */
+  public void writeTo(WritableByteChannel channel, ValueCodec<? super T> codec)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+    buffer.putInt(STREAM_MAGIC).putInt(size);
+    for (Node<T> currentNode = head; currentNode != null; currentNode = currentNode.next) {
+      T value = currentNode.value;
+      int length = value == null ? NULL_LENGTH : codec.sizeOf(value);
+      if (buffer.remaining() < Integer.BYTES) {
+        flush(channel, buffer);
+      }
+      buffer.putInt(length);
+      if (length <= 0) {
+        continue;
+      }
+      if (length > buffer.capacity()) {
+        flush(channel, buffer);
+        ByteBuffer large = ByteBuffer.allocate(length);
+        codec.write(large, 0, value);
+        while (large.hasRemaining()) {
+          channel.write(large);
+        }
+        continue;
+      }
+      if (buffer.remaining() < length) {
+        flush(channel, buffer);
+      }
+      codec.write(buffer, buffer.position(), value);
+      buffer.position(buffer.position() + length);
+    }
+    flush(channel, buffer);
+  }
+
+  /**
+   * Reads a list written by {@link #writeTo(WritableByteChannel, ValueCodec)}, linking each node
+   * at the tail as soon as its value has been decoded.
+   *
+   * @param channel the channel to read from
+   * @param codec   the codec used to decode values
+   * @param <T>     the type of elements
+   * @return a new list with the decoded elements
+   * @throws IOException if reading fails, the stream ends early or is not a serialized list
+   */
+  public static <T> LinkedList<T> readFrom(ReadableByteChannel channel, ValueCodec<T> codec)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+    buffer.flip();
+    fill(channel, buffer, 2 * Integer.BYTES);
+    if (buffer.getInt() != STREAM_MAGIC) {
+      throw new StreamCorruptedException("Not a serialized LinkedList");
+    }
+    int count = buffer.getInt();
+    if (count < 0) {
+      throw new StreamCorruptedException("Negative element count: " + count);
+    }
+    LinkedList<T> list = new LinkedList<>();
+    for (int i = 0; i < count; i++) {
+      fill(channel, buffer, Integer.BYTES);
+      int length = buffer.getInt();
+      if (length == NULL_LENGTH) {
+        list.addLast(null);
+      } else if (length < 0) {
+        throw new StreamCorruptedException("Negative element length: " + length);
+      } else if (length > buffer.capacity()) {
+        ByteBuffer large = ByteBuffer.allocate(length);
+        int buffered = Math.min(buffer.remaining(), length);
+        large.put(large.position(), buffer, buffer.position(), buffered);
+        large.position(buffered);
+        buffer.position(buffer.position() + buffered);
+        while (large.hasRemaining()) {
+          if (channel.read(large) < 0) {
+            throw new EOFException();
+          }
+        }
+        list.addLast(codec.read(large, 0, length));
+      } else {
+        fill(channel, buffer, length);
+        list.addLast(codec.read(buffer, buffer.position(), length));
+        buffer.position(buffer.position() + length);
+      }
+    }
+    return list;
+  }
+
+  /**
+   * Returns the number of elements in the list.
+   *
+   * @return the size of the list
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns how many node allocations were served from the recycling pool.
+   *
+   * @return the number of pool hits
+   */
+  public long poolHits() {
+    return poolHits;
+  }
+
+  /**
+   * Returns how many node allocations found the recycling pool empty. Always zero when pooling
+   * is disabled.
+   *
+   * @return the number of pool misses
+   */
+  public long poolMisses() {
+    return poolMisses;
+  }
+
+  /**
+   * Starts reporting traversal statistics to {@code stats}: the number of node hops of every
+   * indexed operation, where in the list the accessed indices fall and the number of structural
+   * modifications. Several lists may share one {@link LinkedListStats} to aggregate their numbers,
+   * which can then be published through JMX with {@link LinkedListStats#register(String)}.
+   * Passing null turns instrumentation off again.
+   *
+   * @param stats the statistics to update, or null to disable instrumentation
+   */
+  public void instrument(LinkedListStats stats) {
+    this.stats = stats;
+  }
+
+  /**
+   * Returns the statistics this list currently reports to.
+   *
+   * @return the statistics, or null if instrumentation is disabled
+   */
+  public LinkedListStats stats() {
+    return stats;
+  }
+
+  /**
+   * Returns an immutable view of the list as it is now, in constant time. The snapshot shares
+   * the nodes of this list; when the list later changes a node that the snapshot can still see,
+   * the node's previous link and value are saved first, once per snapshot generation. Memory
+   * overhead is therefore proportional to the changes made while the snapshot is alive, and the
+   * saved state is released together with the last snapshot that needs it.
+   *
+   * <p>This method must be called under the same synchronization as the writers of the list. The
+   * returned snapshot, however, may be read from any thread without locking while the list keeps
+   * being modified.
+   *
+   * @return an immutable snapshot of the current contents
+   */
+  public Snapshot<T> snapshot() {
+    Generation generation = new Generation();
+    Generation previous = latestGeneration == null ? null : latestGeneration.get();
+    if (previous != null) {
+      previous.next = generation;
+    }
+    latestGeneration = new WeakReference<>(generation);
+    return new Snapshot<>(head, tail, size, generation);
+  }
+
+  /**
+   * Returns an iterator over the elements in this list from first to last.
+   *
+   * @return a fail-fast iterator
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new ListItr(0);
+  }
+
+  /**
+   * Returns a list iterator positioned before the first element.
+   *
+   * @return a fail-fast list iterator
+   */
+  public ListIterator<T> listIterator() {
+    return new ListItr(0);
+  }
+
+  /**
+   * Returns a list iterator positioned before the element at the specified index. Its
+   * {@code add}, {@code remove} and {@code set} operations run in constant time.
+   *
+   * @param index the index of the first element to be returned by {@code next()}
+   * @return a fail-fast list iterator
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  public ListIterator<T> listIterator(int index) {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException();
+    }
+    return new ListItr(index);
+  }
+
+  /**
+   * Returns an iterator over the elements in this list from last to first.
+   *
+   * @return a fail-fast iterator in reverse order
+   */
+  public Iterator<T> descendingIterator() {
+    ListItr itr = new ListItr(size);
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return itr.hasPrevious();
+      }
+
+      @Override
+      public T next() {
+        return itr.previous();
+      }
+
+      @Override
+      public void remove() {
+        itr.remove();
+      }
+    };
+  }
+
+  /**
+   * Returns a spliterator over the elements of this list. It reports {@link Spliterator#SIZED},
+   * {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}, binds to the list when it is
+   * created and fails fast if the list is structurally modified during traversal.
+   *
+   * @return a spliterator that splits the node chain into balanced halves
+   */
+  @Override
+  public Spliterator<T> spliterator() {
+    return new NodeSpliterator(head, size, modCount);
+  }
+
+  /**
+   * Returns a sequential stream over the elements of this list.
+   *
+   * @return a sequential stream
+   */
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Returns a parallel stream over the elements of this list.
+   *
+   * @return a possibly parallel stream
+   */
+  public Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  /**
+   * Returns a lazy view that applies {@code mapper} to every element when it is iterated. The
+   * view reads this list's nodes directly and follows later changes to the list.
+   *
+   * @param mapper the function to apply
+   * @param <R>    the type of the mapped elements
+   * @return a lazy mapped view
+   */
+  public <R> ListView<R> map(Function<? super T, ? extends R> mapper) {
+    return new NodeView(0, -1).map(mapper);
+  }
+
+  /**
+   * Returns a lazy view of the elements that match {@code predicate}. The view reads this list's
+   * nodes directly and follows later changes to the list.
+   *
+   * @param predicate the condition elements must satisfy
+   * @return a lazy filtered view
+   */
+  public ListView<T> filter(Predicate<? super T> predicate) {
+    return new NodeView(0, -1).filter(predicate);
+  }
+
+  /**
+   * Returns a lazy view of the elements from {@code fromIndex}, inclusive, to {@code toIndex},
+   * exclusive. Iteration walks to the first element once and then follows the links. As with
+   * {@link java.util.List#subList}, the view becomes invalid when this list is structurally
+   * modified, and iterating it then throws {@link ConcurrentModificationException}.
+   *
+   * @param fromIndex the index of the first element of the view
+   * @param toIndex   the index after the last element of the view
+   * @return a lazy view of the range
+   * @throws IndexOutOfBoundsException if the range is out of bounds or fromIndex is greater than
+   *                                   toIndex
+   */
+  public ListView<T> subList(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException();
+    }
+    return new NodeView(fromIndex, toIndex);
+  }
+
+  /**
+   * Returns a lazy view of this list in reverse order, read through the {@code prev} links. The
+   * view follows later changes to the list.
+   *
+   * @return a lazy reversed view
+   */
+  public ListView<T> reversed() {
+    return new NodeView(0, -1).reversed();
+  }
+
+  /**
+   * Compares this list to another for equality based on element values.
+   *
+   * @param o the object to compare with
+   * @return true if both lists contain the same elements in order
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LinkedList<?> that)) {
+      return false;
+    }
+
+    Node<T> nodeA = this.head;
+    Node<?> nodeB = that.head;
+
+    while (nodeA != null && nodeB != null) {
+      if (!Objects.equals(nodeA.value, nodeB.value)) {
+        return false;
+      }
+      nodeA = nodeA.next;
+      nodeB = nodeB.next;
+    }
+
+    return nodeA == null && nodeB == null;
+  }
+
+  /**
+   * Returns a hash code based on the list's contents.
+   *
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    int result = 1;
+    Node<T> currentNode = head;
+    while (currentNode != null) {
+      result = 31 * result + Objects.hashCode(currentNode.value);
+      currentNode = currentNode.next;
+    }
+    return result;
+  }
+
+  /**
+   * Returns a string representation of the list.
+   *
+   * @return a readable format of the list contents
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("LinkedList{");
+    Node<T> currentNode = head;
+    while (currentNode != null) {
+      builder.append(currentNode.value);
+      if (currentNode.next != null) {
+        builder.append(" <-> ");
+      }
+      currentNode = currentNode.next;
+    }
+    builder.append("}");
+    return builder.toString();
+  }
+
+  /**
+   * Returns the node at the given index, walking from whichever of head, tail or the finger is
+   * closest, and moves the finger to that node.
+   *
+   * @param index a valid element index
+   * @return the node at that index
+   */
+  private Node<T> node(int index) {
+    Node<T> currentNode;
+    int position;
+    int distance;
+    if (index < size / 2) {
+      currentNode = head;
+      position = 0;
+      distance = index;
+    } else {
+      currentNode = tail;
+      position = size - 1;
+      distance = size - 1 - index;
+    }
+    if (finger != null && Math.abs(index - fingerIndex) < distance) {
+      currentNode = finger;
+      position = fingerIndex;
+      distance = Math.abs(index - fingerIndex);
+    }
+    if (stats != null) {
+      stats.recordIndexedAccess(index, size, distance);
+    }
+
+    while (position < index) {
+      currentNode = currentNode.next;
+      position++;
+    }
+    while (position > index) {
+      currentNode = currentNode.prev;
+      position--;
+    }
+    finger = currentNode;
+    fingerIndex = index;
+    return currentNode;
+  }
+
+  /**
+   * Writes out everything accumulated in {@code buffer} and clears it for further writing.
+   */
+  private static void flush(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * Reads from {@code channel} until {@code buffer}, which is in read mode, holds at least
+   * {@code required} unread bytes.
+   */
+  private static void fill(ReadableByteChannel channel, ByteBuffer buffer, int required)
+      throws IOException {
+    if (buffer.remaining() >= required) {
+      return;
+    }
+    buffer.compact();
+    while (buffer.position() < required) {
+      if (channel.read(buffer) < 0) {
+        throw new EOFException();
+      }
+    }
+    buffer.flip();
+  }
+
+  /**
+   * Counts a structural modification for fail-fast iterators and, when enabled, for the stats.
+   */
+  private void modified() {
+    modCount++;
+    if (stats != null) {
+      stats.recordStructuralModification();
+    }
+  }
+
+  /**
+   * Must be called before changing {@code next} or {@code value} of a node that may belong to a
+   * snapshot.
+   */
+  private void prepareWrite(Node<T> node) {
+    if (latestGeneration != null || inheritedGenerations != null) {
+      preserve(node);
+    }
+  }
+
+  /**
+   * Saves the current link and value of {@code node} into every live snapshot generation that
+   * has not saved it yet. The saved state is published before the fields change, so a reader
+   * that finds no saved state after reading a field knows the field was not yet overwritten.
+   */
+  private void preserve(Node<T> node) {
+    Version version = null;
+    if (latestGeneration != null) {
+      Generation generation = latestGeneration.get();
+      if (generation == null) {
+        latestGeneration = null;
+      } else {
+        version = new Version(node.next, node.value);
+        generation.versions.putIfAbsent(node, version);
+      }
+    }
+    if (inheritedGenerations != null) {
+      Iterator<WeakReference<Generation>> iterator = inheritedGenerations.iterator();
+      while (iterator.hasNext()) {
+        Generation generation = iterator.next().get();
+        if (generation == null) {
+          iterator.remove();
+        } else {
+          if (version == null) {
+            version = new Version(node.next, node.value);
+          }
+          generation.versions.putIfAbsent(node, version);
+        }
+      }
+      if (inheritedGenerations.isEmpty()) {
+        inheritedGenerations = null;
+      }
+    }
+    VarHandle.storeStoreFence();
+  }
+
+  /**
+   * Takes over the snapshot generations of {@code source} before its nodes become part of this
+   * list, so that later writes to those nodes are still saved for the snapshots of
+   * {@code source}.
+   */
+  private void inheritGenerations(LinkedList<T> source) {
+    List<WeakReference<Generation>> generations = new ArrayList<>();
+    if (inheritedGenerations != null) {
+      generations.addAll(inheritedGenerations);
+    }
+    if (source.latestGeneration != null) {
+      generations.add(source.latestGeneration);
+    }
+    if (source.inheritedGenerations != null) {
+      generations.addAll(source.inheritedGenerations);
+    }
+    generations.removeIf(reference -> reference.get() == null);
+    inheritedGenerations = generations.isEmpty() ? null : generations;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Comparator<? super T> orderOf(Comparator<? super T> comparator) {
+    return comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+  }
+
+  /**
+   * Saves every node for the live snapshots before a sort rewrites all links, so that the
+   * sorting code itself can relink nodes freely, also from several threads.
+   */
+  private void prepareAllForWrite() {
+    if (latestGeneration == null && inheritedGenerations == null) {
+      return;
+    }
+    for (Node<T> currentNode = head; currentNode != null; currentNode = currentNode.next) {
+      prepareWrite(currentNode);
+    }
+  }
+
+  /**
+   * Rebuilds the {@code prev} links and the tail of a sorted, null-terminated chain, then
+   * rethrows the comparator's exception if sorting failed.
+   */
+  private void relinkSorted(Node<T> first, AtomicReference<Throwable> failure) {
+    head = first;
+    Node<T> previousNode = null;
+    for (Node<T> currentNode = first; currentNode != null; currentNode = currentNode.next) {
+      currentNode.prev = previousNode;
+      previousNode = currentNode;
+    }
+    tail = previousNode;
+    finger = null;
+    modified();
+    Throwable cause = failure.get();
+    if (cause instanceof RuntimeException runtimeException) {
+      throw runtimeException;
+    }
+    if (cause instanceof Error error) {
+      throw error;
+    }
+  }
+
+  /**
+   * Sorts a null-terminated chain through its {@code next} links with Simon Tatham's bottom-up
+   * merge sort: each pass merges neighbouring runs of {@code runLength} nodes, doubling the run
+   * length until a pass performs a single merge. Equal elements keep their order. If the
+   * comparator throws, the chain is closed up again so that it still holds every node, the
+   * exception is stored in {@code failure} and the chain is returned unsorted.
+   *
+   * @return the first node of the sorted chain
+   */
+  private static <T> Node<T> sortChain(Node<T> first, Comparator<? super T> comparator,
+      AtomicReference<Throwable> failure) {
+    if (first == null) {
+      return null;
+    }
+    Node<T> merged = first;
+    for (int runLength = 1; ; runLength <<= 1) {
+      Node<T> p = merged;
+      merged = null;
+      Node<T> last = null;
+      int merges = 0;
+      while (p != null) {
+        merges++;
+        Node<T> q = p;
+        int pSize = 0;
+        while (pSize < runLength && q != null) {
+          pSize++;
+          q = q.next;
+        }
+        int qSize = runLength;
+        while (pSize > 0 || (qSize > 0 && q != null)) {
+          Node<T> taken;
+          if (pSize == 0) {
+            taken = q;
+            q = q.next;
+            qSize--;
+          } else if (qSize == 0 || q == null) {
+            taken = p;
+            p = p.next;
+            pSize--;
+          } else {
+            boolean qFirst;
+            try {
+              qFirst = comparator.compare(q.value, p.value) < 0;
+            } catch (RuntimeException | Error e) {
+              failure.compareAndSet(null, e);
+              Node<T> pEnd = p;
+              for (int i = 1; i < pSize; i++) {
+                pEnd = pEnd.next;
+              }
+              pEnd.next = q;
+              if (last == null) {
+                return p;
+              }
+              last.next = p;
+              return merged;
+            }
+            if (qFirst) {
+              taken = q;
+              q = q.next;
+              qSize--;
+            } else {
+              taken = p;
+              p = p.next;
+              pSize--;
+            }
+          }
+          if (last == null) {
+            merged = taken;
+          } else {
+            last.next = taken;
+          }
+          last = taken;
+        }
+        p = q;
+      }
+      last.next = null;
+      if (merges <= 1) {
+        return merged;
+      }
+    }
+  }
+
+  /**
+   * Merges two sorted, null-terminated chains, taking from {@code left} on ties. Once a
+   * comparison has failed, here or in another segment, the chains are only concatenated.
+   *
+   * @return the first node of the merged chain
+   */
+  private static <T> Node<T> mergeChains(Node<T> left, Node<T> right,
+      Comparator<? super T> comparator, AtomicReference<Throwable> failure) {
+    Node<T> first = null;
+    Node<T> last = null;
+    try {
+      while (left != null && right != null && failure.get() == null) {
+        Node<T> taken;
+        if (comparator.compare(right.value, left.value) < 0) {
+          taken = right;
+          right = right.next;
+        } else {
+          taken = left;
+          left = left.next;
+        }
+        if (last == null) {
+          first = taken;
+        } else {
+          last.next = taken;
+        }
+        last = taken;
+      }
+    } catch (RuntimeException | Error e) {
+      failure.compareAndSet(null, e);
+    }
+    Node<T> rest = left;
+    if (left == null) {
+      rest = right;
+    } else if (right != null) {
+      Node<T> leftEnd = left;
+      while (leftEnd.next != null) {
+        leftEnd = leftEnd.next;
+      }
+      leftEnd.next = right;
+    }
+    if (last == null) {
+      return rest;
+    }
+    last.next = rest;
+    return first;
+  }
+
+  /**
+   * Attaches an already linked chain of {@code count} nodes after the current tail.
+   */
+  private void appendChain(Node<T> first, Node<T> last, int count) {
+    if (count == 0) {
+      return;
+    }
+    first.prev = tail;
+    if (tail == null) {
+      head = first;
+    } else {
+      prepareWrite(tail);
+      tail.next = first;
+    }
+    tail = last;
+    size += count;
+    if (valueIndex != null) {
+      valueIndex.addAll(first, null);
+    }
+    modified();
+  }
+
+  /**
+   * Forgets every node without touching the chain, for handing the chain to another list.
+   */
+  private void detachAll() {
+    head = null;
+    tail = null;
+    finger = null;
+    size = 0;
+    if (valueIndex != null) {
+      valueIndex.clear();
+    }
+    modified();
+  }
+
+  /**
+   * Returns a node holding {@code value}, taken from the pool when one is available.
+   */
+  private Node<T> newNode(T value) {
+    Node<T> node = pool;
+    if (node == null) {
+      if (poolCapacity > 0) {
+        poolMisses++;
+      }
+      return new Node<>(value);
+    }
+    pool = node.next;
+    pooledNodes--;
+    poolHits++;
+    node.next = null;
+    node.value = value;
+    return node;
+  }
+
+  /**
+   * Clears an unlinked node and returns it to the pool if there is room for it.
+   */
+  private void recycle(Node<T> node) {
+    if (valueIndex != null) {
+      valueIndex.remove(node);
+    }
+    prepareWrite(node);
+    node.prev = null;
+    node.value = null;
+    if (pooledNodes < poolCapacity) {
+      node.next = pool;
+      pool = node;
+      pooledNodes++;
+    } else {
+      node.next = null;
+    }
+  }
+
+  /**
+   * Links a new node holding {@code value} in front of {@code successor}, or at the end of the
+   * list when {@code successor} is null, and moves the finger to it.
+   *
+   * @param value     the value to insert
+   * @param successor the node that will follow the new one
+   * @param index     the index the new node will occupy
+   */
+  private void linkBefore(T value, Node<T> successor, int index) {
+    Node<T> newNode = newNode(value);
+    if (valueIndex != null) {
+      valueIndex.add(newNode);
+    }
+    Node<T> nodeBefore = successor == null ? tail : successor.prev;
+
+    newNode.prev = nodeBefore;
+    newNode.next = successor;
+
+    if (nodeBefore == null) {
+      head = newNode;
+    } else {
+      prepareWrite(nodeBefore);
+      nodeBefore.next = newNode;
+    }
+    if (successor == null) {
+      tail = newNode;
+    } else {
+      successor.prev = newNode;
+    }
+    finger = newNode;
+    fingerIndex = index;
+    size++;
+    modified();
+  }
+
+  /**
+   * Unlinks the given node and moves the finger to its neighbour.
+   *
+   * @param currentNode the node to remove
+   * @param index       the index the node currently occupies
+   * @return the removed value
+   */
+  private T unlink(Node<T> currentNode, int index) {
+    Node<T> previousNode = currentNode.prev;
+    Node<T> nextNode = currentNode.next;
+
+    if (previousNode == null) {
+      head = nextNode;
+    } else {
+      prepareWrite(previousNode);
+      previousNode.next = nextNode;
+    }
+    if (nextNode == null) {
+      tail = previousNode;
+      finger = previousNode;
+      fingerIndex = index - 1;
+    } else {
+      nextNode.prev = previousNode;
+      finger = nextNode;
+      fingerIndex = index;
+    }
+
+    T value = currentNode.value;
+    recycle(currentNode);
+    size--;
+    modified();
+
+    return value;
+  }
+
+  /**
+   * Bidirectional list iterator that keeps a direct reference to its cursor node.
+   */
+  private class ListItr implements ListIterator<T> {
+
+    private Node<T> lastReturned;
+    private Node<T> next;
+    private int nextIndex;
+    private int expectedModCount = modCount;
+
+    ListItr(int index) {
+      // Starting at either end is not a positional access, so it stays out of the stats
+      next = index == size ? null : index == 0 ? head : node(index);
+      nextIndex = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextIndex < size;
+    }
+
+    @Override
+    public T next() {
+      checkForComodification();
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      lastReturned = next;
+      next = next.next;
+      nextIndex++;
+      return lastReturned.value;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return nextIndex > 0;
+    }
+
+    @Override
+    public T previous() {
+      checkForComodification();
+      if (!hasPrevious()) {
+        throw new NoSuchElementException();
+      }
+      next = next == null ? tail : next.prev;
+      lastReturned = next;
+      nextIndex--;
+      return lastReturned.value;
+    }
+
+    @Override
+    public int nextIndex() {
+      return nextIndex;
+    }
+
+    @Override
+    public int previousIndex() {
+      return nextIndex - 1;
+    }
+
+    @Override
+    public void remove() {
+      checkForComodification();
+      if (lastReturned == null) {
+        throw new IllegalStateException();
+      }
+      if (next == lastReturned) {
+        next = lastReturned.next;
+        unlink(lastReturned, nextIndex);
+      } else {
+        unlink(lastReturned, nextIndex - 1);
+        nextIndex--;
+      }
+      lastReturned = null;
+      expectedModCount = modCount;
+    }
+
+    @Override
+    public void set(T value) {
+      checkForComodification();
+      if (lastReturned == null) {
+        throw new IllegalStateException();
+      }
+      if (valueIndex != null) {
+        valueIndex.remove(lastReturned);
+      }
+      prepareWrite(lastReturned);
+      lastReturned.value = value;
+      if (valueIndex != null) {
+        valueIndex.add(lastReturned);
+      }
+    }
+
+    @Override
+    public void add(T value) {
+      checkForComodification();
+      linkBefore(value, next, nextIndex);
+      nextIndex++;
+      lastReturned = null;
+      expectedModCount = modCount;
+    }
+
+    private void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+  }
+
+  /**
+   * A view of the whole list, or of the range {@code [fromIndex, toIndex)} when toIndex is not
+   * negative. A range is fixed to the list as it was when the view was created.
+   */
+  private final class NodeView extends ListView<T> {
+
+    private final int fromIndex;
+    private final int toIndex;
+    private final int expectedModCount = modCount;
+
+    NodeView(int fromIndex, int toIndex) {
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      if (toIndex < 0) {
+        return new ChainItr(head, size, false);
+      }
+      checkForComodification();
+      return new ChainItr(fromIndex == toIndex ? null : node(fromIndex), toIndex - fromIndex,
+          false);
+    }
+
+    @Override
+    public Iterator<T> descendingIterator() {
+      if (toIndex < 0) {
+        return new ChainItr(tail, size, true);
+      }
+      checkForComodification();
+      return new ChainItr(fromIndex == toIndex ? null : node(toIndex - 1), toIndex - fromIndex,
+          true);
+    }
+
+    private void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+  }
+
+  /**
+   * Read-only iterator over {@code remaining} nodes starting at {@code next}, following
+   * {@code next} links or, when descending, {@code prev} links.
+   */
+  private final class ChainItr implements Iterator<T> {
+
+    private Node<T> next;
+    private int remaining;
+    private final boolean descending;
+    private final int expectedModCount = modCount;
+
+    ChainItr(Node<T> next, int remaining, boolean descending) {
+      this.next = next;
+      this.remaining = remaining;
+      this.descending = descending;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @Override
+    public T next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (remaining == 0) {
+        throw new NoSuchElementException();
+      }
+      T value = next.value;
+      next = descending ? next.prev : next.next;
+      remaining--;
+      return value;
+    }
+
+  }
+
+  /**
+   * Sorts a null-terminated chain of {@code length} nodes by cutting it in half, sorting the
+   * halves in parallel and merging them. Never throws; comparator failures are reported
+   * through {@code failure}.
+   *
+   * @param <T> the type of value stored
+   */
+  private static final class SortTask<T> extends RecursiveTask<Node<T>> {
+
+    // Tasks are serializable only because ForkJoinTask is; they are never serialized.
+    private static final long serialVersionUID = 1L;
+
+    private final transient Node<T> first;
+    private final transient int length;
+    private final transient Comparator<? super T> comparator;
+    private final transient AtomicReference<Throwable> failure;
+
+    private SortTask(Node<T> first, int length, Comparator<? super T> comparator,
+        AtomicReference<Throwable> failure) {
+      this.first = first;
+      this.length = length;
+      this.comparator = comparator;
+      this.failure = failure;
+    }
+
+    @Override
+    protected Node<T> compute() {
+      if (length <= PARALLEL_SORT_THRESHOLD) {
+        return sortChain(first, comparator, failure);
+      }
+      int half = length >>> 1;
+      Node<T> leftEnd = first;
+      for (int i = 1; i < half; i++) {
+        leftEnd = leftEnd.next;
+      }
+      Node<T> second = leftEnd.next;
+      leftEnd.next = null;
+      SortTask<T> left = new SortTask<>(first, half, comparator, failure);
+      left.fork();
+      Node<T> right = new SortTask<>(second, length - half, comparator, failure).compute();
+      return mergeChains(left.join(), right, comparator, failure);
+    }
+
+  }
+
+  /**
+   * Spliterator over a contiguous run of nodes, described by its first node and length. Splitting
+   * walks half of the run and hands that prefix off while keeping the suffix, so every split
+   * produces two halves of equal size.
+   */
+  private final class NodeSpliterator implements Spliterator<T> {
+
+    /**
+     * Runs shorter than this are not split further; walking to their midpoint would cost more
+     * than processing them sequentially.
+     */
+    private static final int MIN_SPLIT_SIZE = 1 << 10;
+
+    private Node<T> first;
+    private int remaining;
+    private final int expectedModCount;
+
+    NodeSpliterator(Node<T> first, int remaining, int expectedModCount) {
+      this.first = first;
+      this.remaining = remaining;
+      this.expectedModCount = expectedModCount;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      Objects.requireNonNull(action);
+      if (remaining == 0) {
+        return false;
+      }
+      checkForComodification();
+      Node<T> current = first;
+      first = current.next;
+      remaining--;
+      action.accept(current.value);
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      Objects.requireNonNull(action);
+      Node<T> current = first;
+      for (int i = remaining; i > 0; i--) {
+        action.accept(current.value);
+        current = current.next;
+      }
+      first = null;
+      remaining = 0;
+      checkForComodification();
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      if (remaining < MIN_SPLIT_SIZE) {
+        return null;
+      }
+      checkForComodification();
+      int half = remaining >>> 1;
+      Node<T> prefixLast = first;
+      for (int i = 1; i < half; i++) {
+        prefixLast = prefixLast.next;
+      }
+      Spliterator<T> prefix = new NodeSpliterator(first, half, expectedModCount);
+      first = prefixLast.next;
+      remaining -= half;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+
+    private void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+  }
+
+  /**
+   * Hash index from element values to the nodes holding them. A value held by a single node maps
+   * straight to that node; a duplicated value maps to a list of its nodes in no particular order.
+   *
+   * @param <T> the type of value stored
+   */
+  private static final class ValueIndex<T> {
+
+    private static final int REFERENCE_BYTES = 4;
+    private static final int MAP_ENTRY_BYTES = 32;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int ARRAY_LIST_BYTES = 24;
+
+    private final HashMap<Object, Object> nodes = new HashMap<>();
+    private int peakEntries;
+
+    private void add(Node<T> node) {
+      Object existing = nodes.putIfAbsent(node.value, node);
+      if (existing == null) {
+        peakEntries = Math.max(peakEntries, nodes.size());
+      } else if (existing instanceof Node<?>) {
+        List<Node<?>> duplicates = new ArrayList<>(2);
+        duplicates.add((Node<?>) existing);
+        duplicates.add(node);
+        nodes.put(node.value, duplicates);
+      } else {
+        duplicates(existing).add(node);
+      }
+    }
+
+    /**
+     * Indexes every node from {@code first} up to, but not including, {@code end}.
+     */
+    private void addAll(Node<T> first, Node<T> end) {
+      for (Node<T> currentNode = first; currentNode != end; currentNode = currentNode.next) {
+        add(currentNode);
+      }
+    }
+
+    private void remove(Node<T> node) {
+      Object existing = nodes.get(node.value);
+      if (existing == node) {
+        nodes.remove(node.value);
+      } else if (existing != null && !(existing instanceof Node<?>)) {
+        List<Node<?>> duplicates = duplicates(existing);
+        duplicates.remove(node);
+        if (duplicates.size() == 1) {
+          nodes.put(node.value, duplicates.get(0));
+        }
+      }
+    }
+
+    /**
+     * Drops every node from {@code first} up to, but not including, {@code end}.
+     */
+    private void removeAll(Node<T> first, Node<T> end) {
+      for (Node<T> currentNode = first; currentNode != end; currentNode = currentNode.next) {
+        remove(currentNode);
+      }
+    }
+
+    private boolean contains(Object value) {
+      return nodes.containsKey(value);
+    }
+
+    /**
+     * Returns the node holding {@code value} if exactly one node does, null otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<T> onlyNode(Object value) {
+      Object existing = nodes.get(value);
+      return existing instanceof Node<?> ? (Node<T>) existing : null;
+    }
+
+    private void clear() {
+      nodes.clear();
+    }
+
+    /**
+     * Estimates the index size. {@link HashMap} never shrinks its table, so the table length is
+     * derived from the largest number of entries the index has held.
+     */
+    private long footprint() {
+      long tableLength = 16;
+      while (tableLength * 3 / 4 < peakEntries) {
+        tableLength <<= 1;
+      }
+      long bytes = ARRAY_HEADER_BYTES + tableLength * REFERENCE_BYTES;
+      bytes += (long) nodes.size() * MAP_ENTRY_BYTES;
+      for (Object existing : nodes.values()) {
+        if (!(existing instanceof Node<?>)) {
+          bytes += ARRAY_LIST_BYTES + ARRAY_HEADER_BYTES
+              + (long) duplicates(existing).size() * REFERENCE_BYTES;
+        }
+      }
+      return bytes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Node<?>> duplicates(Object entry) {
+      return (List<Node<?>>) entry;
+    }
+
+  }
+
+  /**
+   * An immutable, constant-time view of a {@link LinkedList} returned by
+   * {@link LinkedList#snapshot()}. It keeps showing the elements the list had when it was taken,
+   * no matter how the list changes afterwards, and can be read concurrently with those changes
+   * from any number of threads without locking.
+   *
+   * @param <T> the type of elements in the snapshot
+   */
+  public static final class Snapshot<T> implements Iterable<T> {
+
+    private final Node<T> head;
+    private final Node<T> tail;
+    private final int size;
+    private final Generation generation;
+
+    private Snapshot(Node<T> head, Node<T> tail, int size, Generation generation) {
+      this.head = head;
+      this.tail = tail;
+      this.size = size;
+      this.generation = generation;
+    }
+
+    /**
+     * Returns the number of elements in the snapshot.
+     *
+     * @return the size of the snapshot
+     */
+    public int size() {
+      return size;
+    }
+
+    /**
+     * Returns the value at the specified index, walking from the first element.
+     *
+     * @param index the position to retrieve
+     * @return the value at the given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public T get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException();
+      }
+      Node<T> currentNode = head;
+      for (int i = 0; i < index; i++) {
+        currentNode = nextOf(currentNode);
+      }
+      return valueOf(currentNode);
+    }
+
+    /**
+     * Returns the first element in the snapshot.
+     *
+     * @return the first value
+     * @throws IllegalStateException if the snapshot is empty
+     */
+    public T getFirst() {
+      if (size == 0) {
+        throw new IllegalStateException("List is empty");
+      }
+      return valueOf(head);
+    }
+
+    /**
+     * Returns the last element in the snapshot.
+     *
+     * @return the last value
+     * @throws IllegalStateException if the snapshot is empty
+     */
+    public T getLast() {
+      if (size == 0) {
+        throw new IllegalStateException("List is empty");
+      }
+      return valueOf(tail);
+    }
+
+    /**
+     * Returns an iterator over the elements of the snapshot from first to last.
+     *
+     * @return an iterator that does not support removal
+     */
+    @Override
+    public Iterator<T> iterator() {
+      return new Iterator<>() {
+        private Node<T> next = head;
+        private int remaining = size;
+
+        @Override
+        public boolean hasNext() {
+          return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+          if (remaining == 0) {
+            throw new NoSuchElementException();
+          }
+          T value = valueOf(next);
+          if (--remaining > 0) {
+            next = nextOf(next);
+          }
+          return value;
+        }
+      };
+    }
+
+    /**
+     * Returns a sequential stream over the elements of the snapshot.
+     *
+     * @return a sequential stream
+     */
+    public Stream<T> stream() {
+      return StreamSupport.stream(Spliterators.spliterator(iterator(), size,
+          Spliterator.ORDERED | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * Copies the elements of the snapshot into a new array, from first to last.
+     *
+     * @return an array holding every value in order
+     */
+    public Object[] toArray() {
+      Object[] values = new Object[size];
+      int i = 0;
+      for (T value : this) {
+        values[i++] = value;
+      }
+      return values;
+    }
+
+    /**
+     * Returns a string representation of the snapshot.
+     *
+     * @return a readable format of the snapshot contents
+     */
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder("Snapshot{");
+      Iterator<T> iterator = iterator();
+      while (iterator.hasNext()) {
+        builder.append(iterator.next());
+        if (iterator.hasNext()) {
+          builder.append(" <-> ");
+        }
+      }
+      builder.append("}");
+      return builder.toString();
+    }
+
+    /**
+     * Returns the value {@code node} held when the snapshot was taken. The node's own field is
+     * read first; if the list has since saved the node's state, the field may already be
+     * overwritten and the saved value is used instead.
+     */
+    @SuppressWarnings("unchecked")
+    private T valueOf(Node<T> node) {
+      T value = node.value;
+      VarHandle.loadLoadFence();
+      Version version = generation.find(node);
+      return version == null ? value : (T) version.value;
+    }
+
+    /**
+     * Returns the successor {@code node} had when the snapshot was taken.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<T> nextOf(Node<T> node) {
+      Node<T> next = node.next;
+      VarHandle.loadLoadFence();
+      Version version = generation.find(node);
+      return version == null ? next : (Node<T>) version.next;
+    }
+
+  }
+
+  /**
+   * The nodes changed between one snapshot and the next, each with the link and value it had
+   * before its first change. Generations are chained from older to newer, so a snapshot finds
+   * the state of a node in the first generation from its own onwards that saved it.
+   */
+  private static final class Generation {
+
+    private final ConcurrentHashMap<Node<?>, Version> versions = new ConcurrentHashMap<>();
+    private volatile Generation next;
+
+    /**
+     * Returns the state {@code node} had when the snapshot of this generation was taken, or null
+     * if the node has not changed since.
+     */
+    private Version find(Node<?> node) {
+      for (Generation generation = this; generation != null; generation = generation.next) {
+        Version version = generation.versions.get(node);
+        if (version != null) {
+          return version;
+        }
+      }
+      return null;
+    }
+
+  }
+
+  /**
+   * The saved link and value of a node.
+   */
+  private static final class Version {
+
+    private final Node<?> next;
+    private final Object value;
+
+    private Version(Node<?> next, Object value) {
+      this.next = next;
+      this.value = value;
+    }
+
   }
 
   /**
@@ -319,12 +2299,12 @@ public class LinkedList<T> {
    *
    * @param <T> the type of value stored
    */
-  private static class Node<T> {
+  static class Node<T> {
 
     /**
      * The value stored in this node.
      */
-    private final T value;
+    private T value;
     /**
      * Reference to the next node.
      */
@@ -0,0 +1,139 @@
+package com.innowise.linkedlist;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Traversal statistics for one or more {@link LinkedList} instances, enabled per list through
+ * {@link LinkedList#instrument(LinkedListStats)}. The counters can be read directly or published
+ * as a standard MBean with {@link #register(String)}. Updates are thread-safe, so a JMX client can
+ * read them while the lists are in use and several lists may share one instance.
+ */
+public final class LinkedListStats implements LinkedListStatsMBean {
+
+  /**
+   * JMX domain under which statistics are registered.
+   */
+  public static final String JMX_DOMAIN = "com.innowise.linkedlist";
+
+  private static final int BUCKETS = 10;
+
+  private final LongAdder indexedOperations = new LongAdder();
+  private final LongAdder nodeHops = new LongAdder();
+  private final LongAccumulator maxHops = new LongAccumulator(Math::max, 0);
+  private final AtomicLongArray indexHistogram = new AtomicLongArray(BUCKETS);
+  private final LongAdder structuralModifications = new LongAdder();
+
+  private ObjectName objectName;
+
+  /**
+   * Registers these statistics with the platform MBean server as
+   * {@code com.innowise.linkedlist:type=LinkedListStats,name=<name>}.
+   *
+   * @param name the value of the {@code name} key, for example the owning component
+   * @return the name the MBean was registered under
+   * @throws JMException           if the name is invalid or already taken
+   * @throws IllegalStateException if these statistics are already registered
+   */
+  public synchronized ObjectName register(String name) throws JMException {
+    if (objectName != null) {
+      throw new IllegalStateException("Already registered as " + objectName);
+    }
+    ObjectName candidate = new ObjectName(
+        JMX_DOMAIN + ":type=LinkedListStats,name=" + ObjectName.quote(name));
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    server.registerMBean(this, candidate);
+    objectName = candidate;
+    return candidate;
+  }
+
+  /**
+   * Removes these statistics from the platform MBean server. Does nothing if they are not
+   * registered.
+   *
+   * @throws JMException if unregistering fails
+   */
+  public synchronized void unregister() throws JMException {
+    if (objectName == null) {
+      return;
+    }
+    ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+    objectName = null;
+  }
+
+  @Override
+  public long getIndexedOperations() {
+    return indexedOperations.sum();
+  }
+
+  @Override
+  public long getNodeHops() {
+    return nodeHops.sum();
+  }
+
+  @Override
+  public long getMaxHops() {
+    return maxHops.get();
+  }
+
+  @Override
+  public double getAverageHops() {
+    long operations = indexedOperations.sum();
+    return operations == 0 ? 0 : (double) nodeHops.sum() / operations;
+  }
+
+  @Override
+  public long[] getIndexHistogram() {
+    long[] histogram = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      histogram[i] = indexHistogram.get(i);
+    }
+    return histogram;
+  }
+
+  @Override
+  public long getStructuralModifications() {
+    return structuralModifications.sum();
+  }
+
+  @Override
+  public void reset() {
+    indexedOperations.reset();
+    nodeHops.reset();
+    maxHops.reset();
+    for (int i = 0; i < BUCKETS; i++) {
+      indexHistogram.set(i, 0);
+    }
+    structuralModifications.reset();
+  }
+
+  /**
+   * Records one indexed operation that walked {@code hops} nodes to reach {@code index} in a list
+   * of {@code size} elements. An insertion at {@code size} counts towards the last bucket.
+   */
+  void recordIndexedAccess(int index, int size, int hops) {
+    indexedOperations.increment();
+    nodeHops.add(hops);
+    maxHops.accumulate(hops);
+    int bucket = size == 0 ? 0 : (int) ((long) index * BUCKETS / size);
+    indexHistogram.incrementAndGet(Math.min(bucket, BUCKETS - 1));
+  }
+
+  void recordStructuralModification() {
+    structuralModifications.increment();
+  }
+
+  @Override
+  public String toString() {
+    return "LinkedListStats{indexedOperations=" + getIndexedOperations()
+        + ", nodeHops=" + getNodeHops()
+        + ", maxHops=" + getMaxHops()
+        + ", structuralModifications=" + getStructuralModifications() + "}";
+  }
+
+}
@@ -0,0 +1,60 @@
+package com.innowise.linkedlist;
+
+/**
+ * JMX management interface of {@link LinkedListStats}.
+ */
+public interface LinkedListStatsMBean {
+
+  /**
+   * Returns the number of indexed operations ({@code get}, {@code add(int, T)},
+   * {@code remove(int)}, {@code splice(int, ...)}, {@code splitAt}, {@code listIterator(int)})
+   * that had to locate a node. {@code add(int, T)} and {@code remove(int)} at either end of the
+   * list are counted as well, with zero hops.
+   *
+   * @return the number of indexed operations
+   */
+  long getIndexedOperations();
+
+  /**
+   * Returns the total number of node hops walked by indexed operations.
+   *
+   * @return the number of node hops
+   */
+  long getNodeHops();
+
+  /**
+   * Returns the largest number of hops a single indexed operation has walked.
+   *
+   * @return the maximum hops per operation
+   */
+  long getMaxHops();
+
+  /**
+   * Returns the average number of hops per indexed operation.
+   *
+   * @return the average hops, or zero when there were no indexed operations
+   */
+  double getAverageHops();
+
+  /**
+   * Returns how often indexed operations hit each tenth of the list: element {@code i} counts
+   * the accesses whose index was in {@code [i * size / 10, (i + 1) * size / 10)} at the time.
+   * Insertions at the end of the list count towards the last bucket.
+   *
+   * @return ten bucket counts from the head to the tail of the list
+   */
+  long[] getIndexHistogram();
+
+  /**
+   * Returns the number of structural modifications (insertions, removals and bulk relinks).
+   *
+   * @return the number of structural modifications
+   */
+  long getStructuralModifications();
+
+  /**
+   * Sets every counter back to zero.
+   */
+  void reset();
+
+}
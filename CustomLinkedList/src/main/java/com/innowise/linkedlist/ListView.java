@@ -0,0 +1,220 @@
+package com.innowise.linkedlist;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy, read-only view of a {@link LinkedList}, created by {@link LinkedList#map},
+ * {@link LinkedList#filter}, {@link LinkedList#subList} or {@link LinkedList#reversed}. Nothing is
+ * computed when a view is created. Each iteration reads the underlying node chain directly and
+ * passes every element through the chain of transformations one at a time, so chaining views
+ * never builds intermediate lists and no work is done for elements the consumer does not reach.
+ *
+ * <p>The mapping functions and predicates run again on every iteration. Iterators fail fast if
+ * the underlying list is structurally modified while they are in use.
+ *
+ * @param <T> the type of elements produced by the view
+ */
+
+public abstract class ListView<T> implements Iterable<T> {
+
+  ListView() {
+  }
+
+  /**
+   * Returns an iterator over the view from first to last element.
+   *
+   * @return a fail-fast iterator
+   */
+  @Override
+  public abstract Iterator<T> iterator();
+
+  /**
+   * Returns an iterator over the view from last to first element.
+   *
+   * @return a fail-fast iterator in reverse order
+   */
+  public abstract Iterator<T> descendingIterator();
+
+  /**
+   * Returns a view that applies {@code mapper} to every element of this view.
+   *
+   * @param mapper the function to apply
+   * @param <R>    the type of the mapped elements
+   * @return a lazy mapped view
+   */
+  public <R> ListView<R> map(Function<? super T, ? extends R> mapper) {
+    Objects.requireNonNull(mapper);
+    ListView<T> source = this;
+    return new ListView<>() {
+      @Override
+      public Iterator<R> iterator() {
+        return new MappingIterator<>(source.iterator(), mapper);
+      }
+
+      @Override
+      public Iterator<R> descendingIterator() {
+        return new MappingIterator<>(source.descendingIterator(), mapper);
+      }
+    };
+  }
+
+  /**
+   * Returns a view of the elements of this view that match {@code predicate}.
+   *
+   * @param predicate the condition elements must satisfy
+   * @return a lazy filtered view
+   */
+  public ListView<T> filter(Predicate<? super T> predicate) {
+    Objects.requireNonNull(predicate);
+    ListView<T> source = this;
+    return new ListView<>() {
+      @Override
+      public Iterator<T> iterator() {
+        return new FilteringIterator<>(source.iterator(), predicate);
+      }
+
+      @Override
+      public Iterator<T> descendingIterator() {
+        return new FilteringIterator<>(source.descendingIterator(), predicate);
+      }
+    };
+  }
+
+  /**
+   * Returns a view of this view in reverse order.
+   *
+   * @return a lazy reversed view
+   */
+  public ListView<T> reversed() {
+    ListView<T> source = this;
+    return new ListView<>() {
+      @Override
+      public Iterator<T> iterator() {
+        return source.descendingIterator();
+      }
+
+      @Override
+      public Iterator<T> descendingIterator() {
+        return source.iterator();
+      }
+
+      @Override
+      public ListView<T> reversed() {
+        return source;
+      }
+    };
+  }
+
+  /**
+   * Returns a sequential stream over the view. Short-circuiting operations such as
+   * {@code findFirst} stop reading the list as soon as they have their result.
+   *
+   * @return a sequential stream
+   */
+  public Stream<T> stream() {
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false);
+  }
+
+  /**
+   * Copies the elements of the view into a new list.
+   *
+   * @return a new list holding the current elements of the view
+   */
+  public LinkedList<T> toLinkedList() {
+    LinkedList<T> list = new LinkedList<>();
+    list.addAll(this);
+    return list;
+  }
+
+  /**
+   * Returns a string representation of the view's current elements.
+   *
+   * @return a readable format of the view contents
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("ListView{");
+    Iterator<T> iterator = iterator();
+    while (iterator.hasNext()) {
+      builder.append(iterator.next());
+      if (iterator.hasNext()) {
+        builder.append(" <-> ");
+      }
+    }
+    builder.append("}");
+    return builder.toString();
+  }
+
+  private static final class MappingIterator<S, R> implements Iterator<R> {
+
+    private final Iterator<S> source;
+    private final Function<? super S, ? extends R> mapper;
+
+    MappingIterator(Iterator<S> source, Function<? super S, ? extends R> mapper) {
+      this.source = source;
+      this.mapper = mapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return source.hasNext();
+    }
+
+    @Override
+    public R next() {
+      return mapper.apply(source.next());
+    }
+
+  }
+
+  /**
+   * Looks ahead to the next matching element in {@code hasNext}, so that the predicate runs
+   * exactly once per element read.
+   */
+  private static final class FilteringIterator<T> implements Iterator<T> {
+
+    private final Iterator<T> source;
+    private final Predicate<? super T> predicate;
+    private T next;
+    private boolean ready;
+
+    FilteringIterator(Iterator<T> source, Predicate<? super T> predicate) {
+      this.source = source;
+      this.predicate = predicate;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!ready && source.hasNext()) {
+        T candidate = source.next();
+        if (predicate.test(candidate)) {
+          next = candidate;
+          ready = true;
+        }
+      }
+      return ready;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T value = next;
+      next = null;
+      ready = false;
+      return value;
+    }
+
+  }
+
+}
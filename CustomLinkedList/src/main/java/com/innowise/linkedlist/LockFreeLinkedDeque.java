@@ -0,0 +1,380 @@
+package com.innowise.linkedlist;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A non-blocking, thread-safe doubly linked deque. Both ends are described by a single immutable
+ * anchor (leftmost node, rightmost node and a status flag) that is replaced with one
+ * compare-and-set per operation, following M. Michael's "CAS-based lock-free algorithm for shared
+ * deques". A push first swings the anchor to the new node and marks it unstable; the link from
+ * the old end node to the new one is then fixed up by whichever thread comes next, so no thread
+ * ever waits for another.
+ *
+ * <p>Null elements are not permitted. {@link #size()} and iteration are weakly consistent: they
+ * reflect the deque at some point during the call and never throw
+ * {@link java.util.ConcurrentModificationException}.
+ *
+ * @param <T> the type of elements stored in the deque
+ */
+
+public class LockFreeLinkedDeque<T> implements Iterable<T> {
+
+  private static final int STABLE = 0;
+  private static final int RIGHT_PUSH = 1;
+  private static final int LEFT_PUSH = 2;
+
+  private static final VarHandle LEFT;
+  private static final VarHandle RIGHT;
+
+  static {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      LEFT = lookup.findVarHandle(Node.class, "left", Node.class);
+      RIGHT = lookup.findVarHandle(Node.class, "right", Node.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final AtomicReference<Anchor<T>> anchor =
+      new AtomicReference<>(new Anchor<>(null, null, STABLE));
+
+  /**
+   * Inserts the specified value at the beginning of the deque.
+   *
+   * @param value the value to insert
+   * @throws NullPointerException if value is null
+   */
+  public void addFirst(T value) {
+    Node<T> newNode = new Node<>(Objects.requireNonNull(value));
+    while (true) {
+      Anchor<T> current = anchor.get();
+      if (current.left == null) {
+        if (anchor.compareAndSet(current, new Anchor<>(newNode, newNode, STABLE))) {
+          return;
+        }
+      } else if (current.status == STABLE) {
+        newNode.right = current.left;
+        Anchor<T> pushed = new Anchor<>(newNode, current.right, LEFT_PUSH);
+        if (anchor.compareAndSet(current, pushed)) {
+          stabilizeLeft(pushed);
+          return;
+        }
+      } else {
+        stabilize(current);
+      }
+    }
+  }
+
+  /**
+   * Inserts the specified value at the end of the deque.
+   *
+   * @param value the value to insert
+   * @throws NullPointerException if value is null
+   */
+  public void addLast(T value) {
+    Node<T> newNode = new Node<>(Objects.requireNonNull(value));
+    while (true) {
+      Anchor<T> current = anchor.get();
+      if (current.right == null) {
+        if (anchor.compareAndSet(current, new Anchor<>(newNode, newNode, STABLE))) {
+          return;
+        }
+      } else if (current.status == STABLE) {
+        newNode.left = current.right;
+        Anchor<T> pushed = new Anchor<>(current.left, newNode, RIGHT_PUSH);
+        if (anchor.compareAndSet(current, pushed)) {
+          stabilizeRight(pushed);
+          return;
+        }
+      } else {
+        stabilize(current);
+      }
+    }
+  }
+
+  /**
+   * Removes and returns the first element, or returns null if the deque is empty.
+   *
+   * @return the removed value, or null
+   */
+  public T pollFirst() {
+    while (true) {
+      Anchor<T> current = anchor.get();
+      Node<T> first = current.left;
+      if (first == null) {
+        return null;
+      }
+      if (first == current.right) {
+        if (anchor.compareAndSet(current, new Anchor<>(null, null, STABLE))) {
+          return first.value;
+        }
+      } else if (current.status == STABLE) {
+        if (anchor.compareAndSet(current, new Anchor<>(first.right, current.right, STABLE))) {
+          return first.value;
+        }
+      } else {
+        stabilize(current);
+      }
+    }
+  }
+
+  /**
+   * Removes and returns the last element, or returns null if the deque is empty.
+   *
+   * @return the removed value, or null
+   */
+  public T pollLast() {
+    while (true) {
+      Anchor<T> current = anchor.get();
+      Node<T> last = current.right;
+      if (last == null) {
+        return null;
+      }
+      if (last == current.left) {
+        if (anchor.compareAndSet(current, new Anchor<>(null, null, STABLE))) {
+          return last.value;
+        }
+      } else if (current.status == STABLE) {
+        if (anchor.compareAndSet(current, new Anchor<>(current.left, last.left, STABLE))) {
+          return last.value;
+        }
+      } else {
+        stabilize(current);
+      }
+    }
+  }
+
+  /**
+   * Removes and returns the first element in the deque.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the deque is empty
+   */
+  public T removeFirst() {
+    T value = pollFirst();
+    if (value == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    return value;
+  }
+
+  /**
+   * Removes and returns the last element in the deque.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the deque is empty
+   */
+  public T removeLast() {
+    T value = pollLast();
+    if (value == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    return value;
+  }
+
+  /**
+   * Returns the first element in the deque.
+   *
+   * @return the first value
+   * @throws IllegalStateException if the deque is empty
+   */
+  public T getFirst() {
+    Node<T> first = anchor.get().left;
+    if (first == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    return first.value;
+  }
+
+  /**
+   * Returns the last element in the deque.
+   *
+   * @return the last value
+   * @throws IllegalStateException if the deque is empty
+   */
+  public T getLast() {
+    Node<T> last = anchor.get().right;
+    if (last == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    return last.value;
+  }
+
+  /**
+   * Returns true if the deque contains no elements.
+   *
+   * @return whether the deque is empty
+   */
+  public boolean isEmpty() {
+    return anchor.get().left == null;
+  }
+
+  /**
+   * Returns the number of elements in the deque. This walks the deque, so it takes linear time
+   * and the result may already be stale when it is returned.
+   *
+   * @return the size of the deque
+   */
+  public int size() {
+    int count = 0;
+    for (Iterator<T> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Returns a weakly consistent iterator from first to last. It starts from a stable view of both
+   * ends and never blocks concurrent pushes or pops.
+   *
+   * @return an iterator that does not support removal
+   */
+  @Override
+  public Iterator<T> iterator() {
+    Anchor<T> current = anchor.get();
+    while (current.status != STABLE) {
+      stabilize(current);
+      current = anchor.get();
+    }
+    Anchor<T> start = current;
+    return new Iterator<>() {
+      private Node<T> next = start.left;
+
+      @Override
+      public boolean hasNext() {
+        return next != null;
+      }
+
+      @Override
+      public T next() {
+        if (next == null) {
+          throw new NoSuchElementException();
+        }
+        Node<T> node = next;
+        next = node == start.right ? null : node.right;
+        return node.value;
+      }
+    };
+  }
+
+  /**
+   * Returns a string representation of the deque.
+   *
+   * @return a readable format of the deque contents
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("LockFreeLinkedDeque{");
+    Iterator<T> iterator = iterator();
+    while (iterator.hasNext()) {
+      builder.append(iterator.next());
+      if (iterator.hasNext()) {
+        builder.append(" <-> ");
+      }
+    }
+    builder.append("}");
+    return builder.toString();
+  }
+
+  private void stabilize(Anchor<T> current) {
+    if (current.status == RIGHT_PUSH) {
+      stabilizeRight(current);
+    } else {
+      stabilizeLeft(current);
+    }
+  }
+
+  /**
+   * Completes a push at the right end by linking the previous rightmost node to the new one, then
+   * marks the anchor stable again.
+   */
+  private void stabilizeRight(Anchor<T> current) {
+    Node<T> pushed = current.right;
+    Node<T> previous = pushed.left;
+    Node<T> previousNext = previous.right;
+    if (previousNext != pushed) {
+      if (anchor.get() != current) {
+        return;
+      }
+      if (!RIGHT.compareAndSet(previous, previousNext, pushed)) {
+        return;
+      }
+    }
+    anchor.compareAndSet(current, new Anchor<>(current.left, pushed, STABLE));
+  }
+
+  /**
+   * Completes a push at the left end by linking the previous leftmost node to the new one, then
+   * marks the anchor stable again.
+   */
+  private void stabilizeLeft(Anchor<T> current) {
+    Node<T> pushed = current.left;
+    Node<T> previous = pushed.right;
+    Node<T> previousPrev = previous.left;
+    if (previousPrev != pushed) {
+      if (anchor.get() != current) {
+        return;
+      }
+      if (!LEFT.compareAndSet(previous, previousPrev, pushed)) {
+        return;
+      }
+    }
+    anchor.compareAndSet(current, new Anchor<>(pushed, current.right, STABLE));
+  }
+
+  /**
+   * Immutable snapshot of both ends of the deque and whether a push is still being linked in.
+   *
+   * @param <T> the type of value stored
+   */
+  private static final class Anchor<T> {
+
+    private final Node<T> left;
+    private final Node<T> right;
+    private final int status;
+
+    private Anchor(Node<T> left, Node<T> right, int status) {
+      this.left = left;
+      this.right = right;
+      this.status = status;
+    }
+
+  }
+
+  /**
+   * Internal node class used to store deque elements and links.
+   *
+   * @param <T> the type of value stored
+   */
+  private static final class Node<T> {
+
+    /**
+     * The value stored in this node.
+     */
+    private final T value;
+    /**
+     * Reference to the node towards the head.
+     */
+    private volatile Node<T> left;
+    /**
+     * Reference to the node towards the tail.
+     */
+    private volatile Node<T> right;
+
+    private Node(T value) {
+      this.value = value;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+
+  }
+}
@@ -0,0 +1,469 @@
+package com.innowise.linkedlist;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A cache that evicts its least recently used entries once their total weight passes a bound.
+ * Entries are kept in a {@link LinkedList} ordered from most to least recently used, and a hash
+ * map holds each key's node in that list, so a hit moves its node to the head and an eviction
+ * takes the tail, both in constant time without walking the list.
+ *
+ * <p>By default every entry weighs 1 and the bound is a plain capacity; a weigher can assign
+ * other weights. Listeners are told about every entry evicted to stay within the bound, but not
+ * about entries that are removed or replaced explicitly. Listeners run after the cache has
+ * released its lock, so a slow listener does not block other callers.
+ *
+ * <p>A cache created without a concurrency level is not thread-safe. With a concurrency level it
+ * is split into that many independently locked stripes, chosen by key hash, each holding an equal
+ * share of the bound. Eviction is then least recently used within a stripe, which approximates
+ * LRU order across the whole cache.
+ *
+ * <p>Null keys and values are not permitted.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of cached values
+ */
+
+public class LruCache<K, V> {
+
+  private final Segment<K, V>[] segments;
+  private final ToLongBiFunction<? super K, ? super V> weigher;
+  private final List<BiConsumer<? super K, ? super V>> listeners = new CopyOnWriteArrayList<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a cache holding at most {@code capacity} entries.
+   *
+   * @param capacity the maximum number of entries
+   * @throws IllegalArgumentException if capacity is not positive
+   */
+  public LruCache(int capacity) {
+    this(capacity, (key, value) -> 1);
+  }
+
+  /**
+   * Creates a cache whose entries weigh at most {@code maxWeight} in total.
+   *
+   * @param maxWeight the maximum total weight
+   * @param weigher   computes the weight of an entry; must not return a negative number
+   * @throws IllegalArgumentException if maxWeight is not positive
+   */
+  public LruCache(long maxWeight, ToLongBiFunction<? super K, ? super V> weigher) {
+    this(maxWeight, weigher, 1, false);
+  }
+
+  /**
+   * Creates a thread-safe cache whose entries weigh at most {@code maxWeight} in total, split
+   * into {@code concurrencyLevel} lock stripes, rounded up to a power of two.
+   *
+   * @param maxWeight        the maximum total weight
+   * @param weigher          computes the weight of an entry; must not return a negative number
+   * @param concurrencyLevel the expected number of threads using the cache at once
+   * @throws IllegalArgumentException if maxWeight or concurrencyLevel is not positive
+   */
+  public LruCache(long maxWeight, ToLongBiFunction<? super K, ? super V> weigher,
+      int concurrencyLevel) {
+    this(maxWeight, weigher, concurrencyLevel, true);
+  }
+
+  @SuppressWarnings("unchecked")
+  private LruCache(long maxWeight, ToLongBiFunction<? super K, ? super V> weigher,
+      int concurrencyLevel, boolean concurrent) {
+    if (maxWeight <= 0) {
+      throw new IllegalArgumentException("Max weight must be positive: " + maxWeight);
+    }
+    if (concurrencyLevel <= 0) {
+      throw new IllegalArgumentException(
+          "Concurrency level must be positive: " + concurrencyLevel);
+    }
+    this.weigher = Objects.requireNonNull(weigher);
+    int stripes = 1;
+    while (stripes < concurrencyLevel && stripes < maxWeight) {
+      stripes <<= 1;
+    }
+    if (stripes > maxWeight) {
+      stripes >>= 1;
+    }
+    segments = (Segment<K, V>[]) new Segment<?, ?>[stripes];
+    for (int i = 0; i < stripes; i++) {
+      long share = maxWeight / stripes + (i < maxWeight % stripes ? 1 : 0);
+      segments[i] = new Segment<>(share, concurrent ? new ReentrantLock() : null);
+    }
+  }
+
+  /**
+   * Returns the value cached for {@code key} and marks the entry as most recently used.
+   *
+   * @param key the key to look up
+   * @return the cached value, or null if there is none
+   * @throws NullPointerException if key is null
+   */
+  public V get(K key) {
+    Objects.requireNonNull(key);
+    Segment<K, V> segment = segmentFor(key);
+    segment.lock();
+    try {
+      Entry<K, V> entry = segment.entries.get(key);
+      if (entry == null) {
+        misses.increment();
+        return null;
+      }
+      segment.order.moveToFirst(entry.node);
+      hits.increment();
+      return entry.value;
+    } finally {
+      segment.unlock();
+    }
+  }
+
+  /**
+   * Returns whether a value is cached for {@code key}, without changing its recency or the
+   * statistics.
+   *
+   * @param key the key to look up
+   * @return true if the cache holds an entry for key
+   * @throws NullPointerException if key is null
+   */
+  public boolean containsKey(K key) {
+    Objects.requireNonNull(key);
+    Segment<K, V> segment = segmentFor(key);
+    segment.lock();
+    try {
+      return segment.entries.containsKey(key);
+    } finally {
+      segment.unlock();
+    }
+  }
+
+  /**
+   * Caches {@code value} under {@code key} as the most recently used entry, then evicts least
+   * recently used entries until the cache is within its bound again. An entry heavier than the
+   * bound of its stripe is evicted straight away.
+   *
+   * @param key   the key
+   * @param value the value to cache
+   * @return the value previously cached for key, or null if there was none
+   * @throws NullPointerException     if key or value is null
+   * @throws IllegalArgumentException if the weigher returns a negative weight
+   */
+  public V put(K key, V value) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(value);
+    long weight = weigher.applyAsLong(key, value);
+    if (weight < 0) {
+      throw new IllegalArgumentException("Weight must not be negative: " + weight);
+    }
+    Segment<K, V> segment = segmentFor(key);
+    V previous = null;
+    List<Entry<K, V>> evicted;
+    segment.lock();
+    try {
+      Entry<K, V> entry = segment.entries.get(key);
+      if (entry != null) {
+        previous = entry.value;
+      }
+      if (weight > segment.maxWeight) {
+        if (entry != null) {
+          segment.remove(entry);
+        }
+        evicted = List.of(new Entry<>(key, value, weight));
+      } else {
+        if (entry == null) {
+          entry = new Entry<>(key, value, weight);
+          entry.node = segment.order.linkFirst(entry);
+          segment.entries.put(key, entry);
+        } else {
+          segment.weight -= entry.weight;
+          entry.value = value;
+          entry.weight = weight;
+          segment.order.moveToFirst(entry.node);
+        }
+        segment.weight += weight;
+        evicted = segment.evict();
+      }
+    } finally {
+      segment.unlock();
+    }
+    notifyEvicted(evicted);
+    return previous;
+  }
+
+  /**
+   * Removes the entry for {@code key}, if any. Eviction listeners are not notified.
+   *
+   * @param key the key to remove
+   * @return the value that was cached for key, or null if there was none
+   * @throws NullPointerException if key is null
+   */
+  public V remove(K key) {
+    Objects.requireNonNull(key);
+    Segment<K, V> segment = segmentFor(key);
+    segment.lock();
+    try {
+      Entry<K, V> entry = segment.entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      segment.remove(entry);
+      return entry.value;
+    } finally {
+      segment.unlock();
+    }
+  }
+
+  /**
+   * Removes every entry. Eviction listeners are not notified.
+   */
+  public void clear() {
+    for (Segment<K, V> segment : segments) {
+      segment.lock();
+      try {
+        while (segment.order.size() > 0) {
+          segment.order.removeLast();
+        }
+        segment.entries.clear();
+        segment.weight = 0;
+      } finally {
+        segment.unlock();
+      }
+    }
+  }
+
+  /**
+   * Registers a listener that receives the key and value of every evicted entry.
+   *
+   * @param listener the listener to add
+   */
+  public void addEvictionListener(BiConsumer<? super K, ? super V> listener) {
+    listeners.add(Objects.requireNonNull(listener));
+  }
+
+  /**
+   * Returns the number of cached entries.
+   *
+   * @return the size of the cache
+   */
+  public int size() {
+    int size = 0;
+    for (Segment<K, V> segment : segments) {
+      segment.lock();
+      try {
+        size += segment.order.size();
+      } finally {
+        segment.unlock();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns the total weight of the cached entries.
+   *
+   * @return the current weight
+   */
+  public long weight() {
+    long weight = 0;
+    for (Segment<K, V> segment : segments) {
+      segment.lock();
+      try {
+        weight += segment.weight;
+      } finally {
+        segment.unlock();
+      }
+    }
+    return weight;
+  }
+
+  /**
+   * Returns how many lookups found a cached value.
+   *
+   * @return the hit count
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns how many lookups found no cached value.
+   *
+   * @return the miss count
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns how many entries were evicted to stay within the bound.
+   *
+   * @return the eviction count
+   */
+  public long evictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Returns the fraction of lookups that found a cached value.
+   *
+   * @return the hit rate, or 0 if there were no lookups
+   */
+  public double hitRate() {
+    long hitCount = hits.sum();
+    long lookups = hitCount + misses.sum();
+    return lookups == 0 ? 0 : (double) hitCount / lookups;
+  }
+
+  /**
+   * Returns a string representation of the cache, listing each stripe from the most to the least
+   * recently used entry.
+   *
+   * @return a readable format of the cache contents
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("LruCache{");
+    boolean first = true;
+    for (Segment<K, V> segment : segments) {
+      segment.lock();
+      try {
+        for (Entry<K, V> entry : segment.order) {
+          if (!first) {
+            builder.append(" <-> ");
+          }
+          builder.append(entry);
+          first = false;
+        }
+      } finally {
+        segment.unlock();
+      }
+    }
+    builder.append("}");
+    return builder.toString();
+  }
+
+  /**
+   * Returns the number of lock stripes, for checking how the concurrency level was applied.
+   */
+  int stripes() {
+    return segments.length;
+  }
+
+  private Segment<K, V> segmentFor(K key) {
+    int hash = key.hashCode();
+    return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+  }
+
+  /**
+   * Counts the evicted entries and hands them to the listeners, outside of any lock.
+   */
+  private void notifyEvicted(List<Entry<K, V>> evicted) {
+    if (evicted.isEmpty()) {
+      return;
+    }
+    evictions.add(evicted.size());
+    for (BiConsumer<? super K, ? super V> listener : listeners) {
+      for (Entry<K, V> entry : evicted) {
+        listener.accept(entry.key, entry.value);
+      }
+    }
+  }
+
+  /**
+   * One stripe of the cache: a recency list, the map from keys to their entries, and the lock
+   * guarding both, which is null when the cache is not thread-safe.
+   *
+   * @param <K> the type of keys
+   * @param <V> the type of cached values
+   */
+  private static final class Segment<K, V> {
+
+    private final LinkedList<Entry<K, V>> order = new LinkedList<>();
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private final long maxWeight;
+    private final ReentrantLock lock;
+    private long weight;
+
+    Segment(long maxWeight, ReentrantLock lock) {
+      this.maxWeight = maxWeight;
+      this.lock = lock;
+    }
+
+    void lock() {
+      if (lock != null) {
+        lock.lock();
+      }
+    }
+
+    void unlock() {
+      if (lock != null) {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Removes {@code entry} from the recency list and the map.
+     */
+    void remove(Entry<K, V> entry) {
+      order.unlink(entry.node);
+      entries.remove(entry.key);
+      weight -= entry.weight;
+    }
+
+    /**
+     * Removes least recently used entries until the stripe is within its bound.
+     *
+     * @return the removed entries, in eviction order
+     */
+    List<Entry<K, V>> evict() {
+      List<Entry<K, V>> evicted = List.of();
+      while (weight > maxWeight) {
+        Entry<K, V> entry = order.removeLast();
+        entries.remove(entry.key);
+        weight -= entry.weight;
+        if (evicted.isEmpty()) {
+          evicted = new ArrayList<>();
+        }
+        evicted.add(entry);
+      }
+      return evicted;
+    }
+
+  }
+
+  /**
+   * A cached key and value together with the list node that records its recency.
+   *
+   * @param <K> the type of keys
+   * @param <V> the type of cached values
+   */
+  private static final class Entry<K, V> {
+
+    private final K key;
+    private V value;
+    private long weight;
+    private LinkedList.Node<Entry<K, V>> node;
+
+    Entry(K key, V value, long weight) {
+      this.key = key;
+      this.value = value;
+      this.weight = weight;
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + value;
+    }
+
+  }
+
+}
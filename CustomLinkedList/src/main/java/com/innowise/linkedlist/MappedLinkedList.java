@@ -0,0 +1,484 @@
+package com.innowise.linkedlist;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A persistent doubly linked list whose nodes live in a memory-mapped file. Every node is a
+ * record holding the file offsets of its neighbours, the capacity and length of its payload and
+ * the payload itself, encoded by a {@link ValueCodec}. The list head, tail, size and free-space
+ * lists are stored in a small header at the start of the file, so reopening an existing file only
+ * maps it and reads the header; no element is deserialized until it is accessed.
+ *
+ * <p>Records are sized to the codec: a {@link FixedWidthCodec} gets records of exactly its width,
+ * while variable-length values are rounded up to a power of two. Removed records are pushed onto
+ * a free list for their size and reused by later insertions, so {@code addLast}/{@code
+ * removeFirst} traffic does not grow the file. The file is mapped in fixed-size segments and a
+ * record never crosses a segment boundary.
+ *
+ * <p>Changes reach the file through the operating system's page cache; call {@link #force()} to
+ * write them to the storage device. The list must be {@link #close() closed} when it is no longer
+ * needed, and it is not safe for concurrent use. Null values are not permitted.
+ *
+ * @param <T> the type of elements stored in the list
+ */
+
+public class MappedLinkedList<T> implements AutoCloseable {
+
+  /**
+   * Default size of a mapped file segment, 64 MiB.
+   */
+  public static final int DEFAULT_SEGMENT_SIZE = 1 << 26;
+
+  private static final int MAGIC = 0x4D4C4C31;
+  private static final int VERSION = 1;
+  private static final long NIL = 0;
+  private static final int SIZE_CLASSES = 32;
+
+  private static final int MAGIC_OFFSET = 0;
+  private static final int VERSION_OFFSET = 4;
+  private static final int SEGMENT_SHIFT_OFFSET = 8;
+  private static final int FIXED_WIDTH_OFFSET = 12;
+  private static final int HEAD_OFFSET = 16;
+  private static final int TAIL_OFFSET = 24;
+  private static final int SIZE_OFFSET = 32;
+  private static final int END_OFFSET = 40;
+  private static final int FREE_LISTS_OFFSET = 48;
+  private static final int HEADER_SIZE = 512;
+
+  private static final int NEXT_OFFSET = 0;
+  private static final int PREV_OFFSET = 8;
+  private static final int CAPACITY_OFFSET = 16;
+  private static final int LENGTH_OFFSET = 20;
+  private static final int PAYLOAD_OFFSET = 24;
+
+  private final ValueCodec<T> codec;
+  private final int fixedWidth;
+  private final FileChannel channel;
+  private final int segmentShift;
+  private final long segmentMask;
+  private MappedByteBuffer[] segments;
+  private MappedByteBuffer header;
+  private boolean closed = false;
+
+  /**
+   * Opens the list stored in {@code file}, creating the file with
+   * {@link #DEFAULT_SEGMENT_SIZE 64 MiB} segments if it does not exist.
+   *
+   * @param file  the backing file
+   * @param codec the codec used to store values
+   * @throws UncheckedIOException     if the file cannot be opened or mapped
+   * @throws IllegalArgumentException if the file is not a list file or was written with a codec
+   *                                  of a different width
+   */
+  public MappedLinkedList(Path file, ValueCodec<T> codec) {
+    this(file, codec, DEFAULT_SEGMENT_SIZE);
+  }
+
+  /**
+   * Opens the list stored in {@code file}, creating the file if it does not exist. The segment
+   * size only applies to new files; an existing file keeps the segment size it was created with.
+   *
+   * @param file        the backing file
+   * @param codec       the codec used to store values
+   * @param segmentSize the size of a mapped segment, a power of two of at least 4 KiB
+   * @throws UncheckedIOException     if the file cannot be opened or mapped
+   * @throws IllegalArgumentException if the segment size is invalid, the file is not a list file
+   *                                  or it was written with a codec of a different width
+   */
+  public MappedLinkedList(Path file, ValueCodec<T> codec, int segmentSize) {
+    this.codec = Objects.requireNonNull(codec, "codec");
+    this.fixedWidth = codec instanceof FixedWidthCodec<T> fixed ? fixed.width() : -1;
+    if (segmentSize < 4096 || Integer.bitCount(segmentSize) != 1) {
+      throw new IllegalArgumentException("Segment size must be a power of two >= 4096: "
+          + segmentSize);
+    }
+    try {
+      channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+          StandardOpenOption.WRITE);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    try {
+      boolean created = channel.size() == 0;
+      int shift = Integer.numberOfTrailingZeros(segmentSize);
+      if (!created) {
+        // A short file is rejected before mapping, as mapping past its end would grow it
+        if (channel.size() < HEADER_SIZE) {
+          throw new IllegalArgumentException("Not a mapped list file: " + file);
+        }
+        MappedByteBuffer probe = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if (probe.getInt(MAGIC_OFFSET) != MAGIC || probe.getInt(VERSION_OFFSET) != VERSION) {
+          throw new IllegalArgumentException("Not a mapped list file: " + file);
+        }
+        if (probe.getInt(FIXED_WIDTH_OFFSET) != fixedWidth) {
+          throw new IllegalArgumentException("File was written with a codec of width "
+              + probe.getInt(FIXED_WIDTH_OFFSET) + ", not " + fixedWidth);
+        }
+        shift = probe.getInt(SEGMENT_SHIFT_OFFSET);
+      }
+      segmentShift = shift;
+      segmentMask = (1L << shift) - 1;
+      long segmentCount = Math.max(1, (channel.size() + segmentMask) >>> shift);
+      segments = new MappedByteBuffer[(int) segmentCount];
+      for (int i = 0; i < segmentCount; i++) {
+        segments[i] = mapSegment(i);
+      }
+      header = segments[0];
+      if (created) {
+        header.putInt(MAGIC_OFFSET, MAGIC);
+        header.putInt(VERSION_OFFSET, VERSION);
+        header.putInt(SEGMENT_SHIFT_OFFSET, segmentShift);
+        header.putInt(FIXED_WIDTH_OFFSET, fixedWidth);
+        header.putLong(END_OFFSET, HEADER_SIZE);
+      }
+    } catch (IOException | RuntimeException e) {
+      try {
+        channel.close();
+      } catch (IOException suppressed) {
+        e.addSuppressed(suppressed);
+      }
+      throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+    }
+  }
+
+  /**
+   * Inserts the specified value at the beginning of the list.
+   *
+   * @param value the value to insert
+   * @throws NullPointerException  if value is null
+   * @throws IllegalStateException if the list is closed
+   */
+  public void addFirst(T value) {
+    long record = allocate(value);
+    long head = header.getLong(HEAD_OFFSET);
+    setNext(record, head);
+    if (head != NIL) {
+      setPrev(head, record);
+    } else {
+      header.putLong(TAIL_OFFSET, record);
+    }
+    header.putLong(HEAD_OFFSET, record);
+    header.putLong(SIZE_OFFSET, header.getLong(SIZE_OFFSET) + 1);
+  }
+
+  /**
+   * Inserts the specified value at the end of the list.
+   *
+   * @param value the value to insert
+   * @throws NullPointerException  if value is null
+   * @throws IllegalStateException if the list is closed
+   */
+  public void addLast(T value) {
+    long record = allocate(value);
+    long tail = header.getLong(TAIL_OFFSET);
+    setPrev(record, tail);
+    if (tail != NIL) {
+      setNext(tail, record);
+    } else {
+      header.putLong(HEAD_OFFSET, record);
+    }
+    header.putLong(TAIL_OFFSET, record);
+    header.putLong(SIZE_OFFSET, header.getLong(SIZE_OFFSET) + 1);
+  }
+
+  /**
+   * Returns the value at the specified index.
+   *
+   * @param index the position to retrieve
+   * @return the value at the given index
+   * @throws IndexOutOfBoundsException if index is out of range
+   * @throws IllegalStateException     if the list is closed
+   */
+  public T get(int index) {
+    int size = size();
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException();
+    }
+    long record;
+    if (index < size / 2) {
+      record = header.getLong(HEAD_OFFSET);
+      for (int i = 0; i < index; i++) {
+        record = next(record);
+      }
+    } else {
+      record = header.getLong(TAIL_OFFSET);
+      for (int i = size - 1; i > index; i--) {
+        record = prev(record);
+      }
+    }
+    return value(record);
+  }
+
+  /**
+   * Returns the first element in the list.
+   *
+   * @return the first value
+   * @throws IllegalStateException if the list is empty or closed
+   */
+  public T getFirst() {
+    ensureOpen();
+    long head = header.getLong(HEAD_OFFSET);
+    if (head == NIL) {
+      throw new IllegalStateException("List is empty");
+    }
+    return value(head);
+  }
+
+  /**
+   * Returns the last element in the list.
+   *
+   * @return the last value
+   * @throws IllegalStateException if the list is empty or closed
+   */
+  public T getLast() {
+    ensureOpen();
+    long tail = header.getLong(TAIL_OFFSET);
+    if (tail == NIL) {
+      throw new IllegalStateException("List is empty");
+    }
+    return value(tail);
+  }
+
+  /**
+   * Removes and returns the first element in the list. Its record is kept for reuse.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty or closed
+   */
+  public T removeFirst() {
+    ensureOpen();
+    long record = header.getLong(HEAD_OFFSET);
+    if (record == NIL) {
+      throw new IllegalStateException("List is empty");
+    }
+    T value = value(record);
+    long head = next(record);
+    header.putLong(HEAD_OFFSET, head);
+    if (head != NIL) {
+      setPrev(head, NIL);
+    } else {
+      header.putLong(TAIL_OFFSET, NIL);
+    }
+    release(record);
+    header.putLong(SIZE_OFFSET, header.getLong(SIZE_OFFSET) - 1);
+    return value;
+  }
+
+  /**
+   * Removes and returns the last element in the list. Its record is kept for reuse.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty or closed
+   */
+  public T removeLast() {
+    ensureOpen();
+    long record = header.getLong(TAIL_OFFSET);
+    if (record == NIL) {
+      throw new IllegalStateException("List is empty");
+    }
+    T value = value(record);
+    long tail = prev(record);
+    header.putLong(TAIL_OFFSET, tail);
+    if (tail != NIL) {
+      setNext(tail, NIL);
+    } else {
+      header.putLong(HEAD_OFFSET, NIL);
+    }
+    release(record);
+    header.putLong(SIZE_OFFSET, header.getLong(SIZE_OFFSET) - 1);
+    return value;
+  }
+
+  /**
+   * Returns the number of elements in the list.
+   *
+   * @return the size of the list
+   * @throws IllegalStateException if the list is closed
+   */
+  public int size() {
+    ensureOpen();
+    return (int) header.getLong(SIZE_OFFSET);
+  }
+
+  /**
+   * Writes all changes made so far to the storage device.
+   *
+   * @throws IllegalStateException if the list is closed
+   */
+  public void force() {
+    ensureOpen();
+    for (MappedByteBuffer segment : segments) {
+      segment.force();
+    }
+  }
+
+  /**
+   * Forces pending changes to disk and closes the backing file. The mapped segments are released
+   * once they become unreachable.
+   *
+   * @throws UncheckedIOException if the file cannot be closed
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    force();
+    closed = true;
+    segments = new MappedByteBuffer[0];
+    header = null;
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Returns a string representation of the list.
+   *
+   * @return a readable format of the list contents
+   */
+  @Override
+  public String toString() {
+    if (closed) {
+      return "MappedLinkedList{closed}";
+    }
+    StringBuilder builder = new StringBuilder("MappedLinkedList{");
+    long tail = header.getLong(TAIL_OFFSET);
+    for (long record = header.getLong(HEAD_OFFSET); record != NIL; record = next(record)) {
+      builder.append(value(record));
+      if (record != tail) {
+        builder.append(" <-> ");
+      }
+    }
+    builder.append("}");
+    return builder.toString();
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("List is closed");
+    }
+  }
+
+  /**
+   * Stores the value in a recycled record of the right size class, or in fresh space at the end
+   * of the file, and returns the record's offset.
+   */
+  private long allocate(T value) {
+    ensureOpen();
+    Objects.requireNonNull(value);
+    int length = codec.sizeOf(value);
+    int capacity = fixedWidth >= 0 ? fixedWidth : Math.max(8, roundUpToPowerOfTwo(length));
+    int recordSize = PAYLOAD_OFFSET + capacity;
+    if (recordSize > segmentMask + 1 || length > capacity) {
+      throw new IllegalArgumentException("Value too large: " + length + " bytes");
+    }
+    int sizeClass = sizeClass(capacity);
+    int freeListOffset = FREE_LISTS_OFFSET + sizeClass * Long.BYTES;
+    long record = header.getLong(freeListOffset);
+    boolean recycled = record != NIL;
+    if (!recycled) {
+      record = header.getLong(END_OFFSET);
+      if ((record & segmentMask) + recordSize > segmentMask + 1) {
+        record = (record | segmentMask) + 1;
+      }
+      ensureMapped(record + recordSize - 1);
+    }
+
+    MappedByteBuffer segment = segment(record);
+    int position = position(record);
+    codec.write(segment, position + PAYLOAD_OFFSET, value);
+    if (recycled) {
+      header.putLong(freeListOffset, next(record));
+    } else {
+      header.putLong(END_OFFSET, record + recordSize);
+    }
+    segment.putInt(position + CAPACITY_OFFSET, capacity);
+    segment.putInt(position + LENGTH_OFFSET, length);
+    setNext(record, NIL);
+    setPrev(record, NIL);
+    return record;
+  }
+
+  /**
+   * Pushes a removed record onto the free list of its size class.
+   */
+  private void release(long record) {
+    int capacity = segment(record).getInt(position(record) + CAPACITY_OFFSET);
+    int freeListOffset = FREE_LISTS_OFFSET + sizeClass(capacity) * Long.BYTES;
+    setNext(record, header.getLong(freeListOffset));
+    setPrev(record, NIL);
+    header.putLong(freeListOffset, record);
+  }
+
+  private void ensureMapped(long lastByte) {
+    int segmentIndex = (int) (lastByte >>> segmentShift);
+    if (segmentIndex < segments.length) {
+      return;
+    }
+    int oldLength = segments.length;
+    segments = Arrays.copyOf(segments, segmentIndex + 1);
+    try {
+      for (int i = oldLength; i <= segmentIndex; i++) {
+        segments[i] = mapSegment(i);
+      }
+    } catch (IOException e) {
+      segments = Arrays.copyOf(segments, oldLength);
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private MappedByteBuffer mapSegment(int index) throws IOException {
+    return channel.map(FileChannel.MapMode.READ_WRITE, (long) index << segmentShift,
+        segmentMask + 1);
+  }
+
+  private static int roundUpToPowerOfTwo(int value) {
+    return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+  }
+
+  private static int sizeClass(int capacity) {
+    return Math.min(SIZE_CLASSES - 1, 32 - Integer.numberOfLeadingZeros(capacity - 1));
+  }
+
+  private MappedByteBuffer segment(long record) {
+    return segments[(int) (record >>> segmentShift)];
+  }
+
+  private int position(long record) {
+    return (int) (record & segmentMask);
+  }
+
+  private long next(long record) {
+    return segment(record).getLong(position(record) + NEXT_OFFSET);
+  }
+
+  private long prev(long record) {
+    return segment(record).getLong(position(record) + PREV_OFFSET);
+  }
+
+  private void setNext(long record, long next) {
+    segment(record).putLong(position(record) + NEXT_OFFSET, next);
+  }
+
+  private void setPrev(long record, long prev) {
+    segment(record).putLong(position(record) + PREV_OFFSET, prev);
+  }
+
+  private T value(long record) {
+    MappedByteBuffer segment = segment(record);
+    int position = position(record);
+    return codec.read(segment, position + PAYLOAD_OFFSET,
+        segment.getInt(position + LENGTH_OFFSET));
+  }
+
+}
@@ -0,0 +1,341 @@
+package com.innowise.linkedlist;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A doubly linked list whose nodes live in direct memory instead of the Java heap. Every node is
+ * a fixed-size slot holding the index of the next slot, the index of the previous slot and a
+ * payload encoded by a {@link FixedWidthCodec}. Slots are carved out of large direct
+ * {@link ByteBuffer} chunks, so the garbage collector only sees a handful of buffer objects no
+ * matter how many elements the list holds. Removed slots are kept on a free list and reused.
+ *
+ * <p>The list must be {@link #close() closed} when it is no longer needed. Any operation on a
+ * closed list throws {@link IllegalStateException}, except {@link #close()},
+ * {@link #reservedBytes()} and {@link #toString()}.
+ *
+ * @param <T> the type of elements stored in the list
+ */
+
+public class OffHeapLinkedList<T> implements AutoCloseable {
+
+  /**
+   * Default number of slots allocated per direct memory chunk.
+   */
+  public static final int DEFAULT_SLOTS_PER_CHUNK = 1 << 16;
+
+  private static final int NIL = -1;
+  private static final int NEXT_OFFSET = 0;
+  private static final int PREV_OFFSET = Integer.BYTES;
+  private static final int PAYLOAD_OFFSET = 2 * Integer.BYTES;
+
+  private final FixedWidthCodec<T> codec;
+  private final int slotSize;
+  private final int chunkShift;
+  private final int chunkMask;
+
+  private ByteBuffer[] chunks = new ByteBuffer[0];
+  private int allocatedSlots = 0;
+  private int freeHead = NIL;
+  private int head = NIL;
+  private int tail = NIL;
+  private int size = 0;
+  private boolean closed = false;
+
+  /**
+   * Creates an empty list using {@link #DEFAULT_SLOTS_PER_CHUNK} slots per chunk.
+   *
+   * @param codec the codec used to store values
+   */
+  public OffHeapLinkedList(FixedWidthCodec<T> codec) {
+    this(codec, DEFAULT_SLOTS_PER_CHUNK);
+  }
+
+  /**
+   * Creates an empty list that grows by {@code slotsPerChunk} slots at a time.
+   *
+   * @param codec         the codec used to store values
+   * @param slotsPerChunk the number of slots per direct memory chunk, a power of two
+   * @throws IllegalArgumentException if {@code slotsPerChunk} is not a positive power of two or a
+   *                                  chunk would exceed the maximum buffer size
+   */
+  public OffHeapLinkedList(FixedWidthCodec<T> codec, int slotsPerChunk) {
+    this.codec = Objects.requireNonNull(codec, "codec");
+    if (slotsPerChunk <= 0 || Integer.bitCount(slotsPerChunk) != 1) {
+      throw new IllegalArgumentException(
+          "Slots per chunk must be a power of two: " + slotsPerChunk);
+    }
+    this.slotSize = PAYLOAD_OFFSET + codec.width();
+    if ((long) slotSize * slotsPerChunk > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Chunk too large: " + slotsPerChunk + " slots");
+    }
+    this.chunkShift = Integer.numberOfTrailingZeros(slotsPerChunk);
+    this.chunkMask = slotsPerChunk - 1;
+  }
+
+  /**
+   * Inserts the specified value at the beginning of the list.
+   *
+   * @param value the value to insert
+   * @throws IllegalStateException if the list is closed
+   */
+  public void addFirst(T value) {
+    int slot = allocate(value);
+    setNext(slot, head);
+    if (head != NIL) {
+      setPrev(head, slot);
+    } else {
+      tail = slot;
+    }
+    head = slot;
+    size++;
+  }
+
+  /**
+   * Inserts the specified value at the end of the list.
+   *
+   * @param value the value to insert
+   * @throws IllegalStateException if the list is closed
+   */
+  public void addLast(T value) {
+    int slot = allocate(value);
+    setPrev(slot, tail);
+    if (tail != NIL) {
+      setNext(tail, slot);
+    } else {
+      head = slot;
+    }
+    tail = slot;
+    size++;
+  }
+
+  /**
+   * Returns the value at the specified index.
+   *
+   * @param index the position to retrieve
+   * @return the value at the given index
+   * @throws IndexOutOfBoundsException if index is out of range
+   * @throws IllegalStateException     if the list is closed
+   */
+  public T get(int index) {
+    ensureOpen();
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException();
+    }
+    int slot;
+    if (index < size / 2) {
+      slot = head;
+      for (int i = 0; i < index; i++) {
+        slot = next(slot);
+      }
+    } else {
+      slot = tail;
+      for (int i = size - 1; i > index; i--) {
+        slot = prev(slot);
+      }
+    }
+    return value(slot);
+  }
+
+  /**
+   * Returns the first element in the list.
+   *
+   * @return the first value
+   * @throws IllegalStateException if the list is empty or closed
+   */
+  public T getFirst() {
+    ensureOpen();
+    if (head == NIL) {
+      throw new IllegalStateException("List is empty");
+    }
+    return value(head);
+  }
+
+  /**
+   * Returns the last element in the list.
+   *
+   * @return the last value
+   * @throws IllegalStateException if the list is empty or closed
+   */
+  public T getLast() {
+    ensureOpen();
+    if (tail == NIL) {
+      throw new IllegalStateException("List is empty");
+    }
+    return value(tail);
+  }
+
+  /**
+   * Removes and returns the first element in the list.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty or closed
+   */
+  public T removeFirst() {
+    ensureOpen();
+    if (head == NIL) {
+      throw new IllegalStateException("List is empty");
+    }
+    int slot = head;
+    T value = value(slot);
+    head = next(slot);
+    if (head != NIL) {
+      setPrev(head, NIL);
+    } else {
+      tail = NIL;
+    }
+    release(slot);
+    size--;
+    return value;
+  }
+
+  /**
+   * Removes and returns the last element in the list.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty or closed
+   */
+  public T removeLast() {
+    ensureOpen();
+    if (tail == NIL) {
+      throw new IllegalStateException("List is empty");
+    }
+    int slot = tail;
+    T value = value(slot);
+    tail = prev(slot);
+    if (tail != NIL) {
+      setNext(tail, NIL);
+    } else {
+      head = NIL;
+    }
+    release(slot);
+    size--;
+    return value;
+  }
+
+  /**
+   * Returns the number of elements in the list.
+   *
+   * @return the size of the list
+   * @throws IllegalStateException if the list is closed
+   */
+  public int size() {
+    ensureOpen();
+    return size;
+  }
+
+  /**
+   * Returns the number of bytes of direct memory currently reserved by the list.
+   *
+   * @return the reserved off-heap memory in bytes
+   */
+  public long reservedBytes() {
+    return (long) chunks.length * (chunkMask + 1) * slotSize;
+  }
+
+  /**
+   * Releases the direct memory chunks. The memory is returned to the system once the chunk
+   * buffers become unreachable; the list itself can no longer be used.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    chunks = new ByteBuffer[0];
+    head = tail = freeHead = NIL;
+    allocatedSlots = 0;
+    size = 0;
+  }
+
+  /**
+   * Returns a string representation of the list.
+   *
+   * @return a readable format of the list contents
+   */
+  @Override
+  public String toString() {
+    if (closed) {
+      return "OffHeapLinkedList{closed}";
+    }
+    StringBuilder builder = new StringBuilder("OffHeapLinkedList{");
+    for (int slot = head; slot != NIL; slot = next(slot)) {
+      builder.append(value(slot));
+      if (slot != tail) {
+        builder.append(" <-> ");
+      }
+    }
+    builder.append("}");
+    return builder.toString();
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("List is closed");
+    }
+  }
+
+  /**
+   * Takes a slot from the free list, or from fresh chunk space, and stores the value in it. The
+   * slot is only claimed once the codec has written the value successfully.
+   */
+  private int allocate(T value) {
+    ensureOpen();
+    int slot = freeHead;
+    if (slot == NIL) {
+      if (allocatedSlots == Integer.MAX_VALUE) {
+        throw new IllegalStateException("List is full");
+      }
+      slot = allocatedSlots;
+      int chunk = slot >>> chunkShift;
+      if (chunk == chunks.length) {
+        chunks = Arrays.copyOf(chunks, chunk + 1);
+        chunks[chunk] = ByteBuffer.allocateDirect((chunkMask + 1) * slotSize)
+            .order(ByteOrder.nativeOrder());
+      }
+    }
+    codec.write(chunks[slot >>> chunkShift], offset(slot) + PAYLOAD_OFFSET, value);
+    if (slot == freeHead) {
+      freeHead = next(slot);
+    } else {
+      allocatedSlots++;
+    }
+    setNext(slot, NIL);
+    setPrev(slot, NIL);
+    return slot;
+  }
+
+  /**
+   * Pushes a slot onto the free list, threading it through its next field.
+   */
+  private void release(int slot) {
+    setNext(slot, freeHead);
+    setPrev(slot, NIL);
+    freeHead = slot;
+  }
+
+  private int offset(int slot) {
+    return (slot & chunkMask) * slotSize;
+  }
+
+  private int next(int slot) {
+    return chunks[slot >>> chunkShift].getInt(offset(slot) + NEXT_OFFSET);
+  }
+
+  private int prev(int slot) {
+    return chunks[slot >>> chunkShift].getInt(offset(slot) + PREV_OFFSET);
+  }
+
+  private void setNext(int slot, int next) {
+    chunks[slot >>> chunkShift].putInt(offset(slot) + NEXT_OFFSET, next);
+  }
+
+  private void setPrev(int slot, int prev) {
+    chunks[slot >>> chunkShift].putInt(offset(slot) + PREV_OFFSET, prev);
+  }
+
+  private T value(int slot) {
+    return codec.read(chunks[slot >>> chunkShift], offset(slot) + PAYLOAD_OFFSET);
+  }
+
+}
@@ -0,0 +1,292 @@
+package com.innowise.linkedlist;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A fixed-capacity list for sliding windows. All storage is allocated once by the constructor,
+ * and once the buffer is full every insertion overwrites the element at the opposite end:
+ * {@link #addLast} drops the first element and {@link #addFirst} drops the last one. Calling
+ * {@code addLast} for every new sample therefore keeps exactly the latest {@code capacity}
+ * samples without allocating anything. Elements are stored in a circular array, so every
+ * operation, including {@link #get(int)}, takes constant time.
+ *
+ * <p>The operations mirror those of {@link LinkedList} at both ends. Iterators are fail-fast.
+ *
+ * @param <T> the type of elements stored in the buffer
+ */
+
+public class RingBuffer<T> implements Iterable<T> {
+
+  private final Object[] values;
+  private int head = 0;
+  private int size = 0;
+  private int modCount = 0;
+
+  /**
+   * Creates an empty buffer holding at most {@code capacity} elements.
+   *
+   * @param capacity the maximum number of elements
+   * @throws IllegalArgumentException if capacity is not positive
+   */
+  public RingBuffer(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+    }
+    this.values = new Object[capacity];
+  }
+
+  /**
+   * Inserts the specified value at the beginning of the buffer, dropping the last element if the
+   * buffer is full.
+   *
+   * @param value the value to insert
+   * @return the dropped value, or null if the buffer was not full
+   */
+  public T addFirst(T value) {
+    head = wrap(head - 1 + values.length);
+    T dropped = null;
+    if (size == values.length) {
+      dropped = valueAt(head);
+    } else {
+      size++;
+    }
+    values[head] = value;
+    modCount++;
+    return dropped;
+  }
+
+  /**
+   * Inserts the specified value at the end of the buffer, dropping the first element if the
+   * buffer is full.
+   *
+   * @param value the value to insert
+   * @return the dropped value, or null if the buffer was not full
+   */
+  public T addLast(T value) {
+    T dropped = null;
+    if (size == values.length) {
+      dropped = valueAt(head);
+      values[head] = value;
+      head = wrap(head + 1);
+    } else {
+      values[wrap(head + size)] = value;
+      size++;
+    }
+    modCount++;
+    return dropped;
+  }
+
+  /**
+   * Returns the value at the specified index, counted from the first element.
+   *
+   * @param index the position to retrieve
+   * @return the value at the given index
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  public T get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException();
+    }
+    return valueAt(wrap(head + index));
+  }
+
+  /**
+   * Returns the first element in the buffer.
+   *
+   * @return the first value
+   * @throws IllegalStateException if the buffer is empty
+   */
+  public T getFirst() {
+    if (size == 0) {
+      throw new IllegalStateException("List is empty");
+    }
+    return valueAt(head);
+  }
+
+  /**
+   * Returns the last element in the buffer.
+   *
+   * @return the last value
+   * @throws IllegalStateException if the buffer is empty
+   */
+  public T getLast() {
+    if (size == 0) {
+      throw new IllegalStateException("List is empty");
+    }
+    return valueAt(wrap(head + size - 1));
+  }
+
+  /**
+   * Removes and returns the first element in the buffer.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the buffer is empty
+   */
+  public T removeFirst() {
+    if (size == 0) {
+      throw new IllegalStateException("List is empty");
+    }
+    T value = valueAt(head);
+    values[head] = null;
+    head = wrap(head + 1);
+    size--;
+    modCount++;
+    return value;
+  }
+
+  /**
+   * Removes and returns the last element in the buffer.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the buffer is empty
+   */
+  public T removeLast() {
+    if (size == 0) {
+      throw new IllegalStateException("List is empty");
+    }
+    int last = wrap(head + size - 1);
+    T value = valueAt(last);
+    values[last] = null;
+    size--;
+    modCount++;
+    return value;
+  }
+
+  /**
+   * Removes every element, keeping the allocated storage.
+   */
+  public void clear() {
+    for (int i = 0; i < size; i++) {
+      values[wrap(head + i)] = null;
+    }
+    head = 0;
+    size = 0;
+    modCount++;
+  }
+
+  /**
+   * Returns the number of elements in the buffer.
+   *
+   * @return the size of the buffer
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the maximum number of elements the buffer holds.
+   *
+   * @return the capacity given to the constructor
+   */
+  public int capacity() {
+    return values.length;
+  }
+
+  /**
+   * Returns whether the next insertion will drop an element.
+   *
+   * @return true if the buffer holds {@link #capacity()} elements
+   */
+  public boolean isFull() {
+    return size == values.length;
+  }
+
+  /**
+   * Returns an iterator from the first to the last element.
+   *
+   * @return a fail-fast iterator
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<>() {
+      private int index = 0;
+      private final int expectedModCount = modCount;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      public T next() {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (index >= size) {
+          throw new NoSuchElementException();
+        }
+        return valueAt(wrap(head + index++));
+      }
+    };
+  }
+
+  /**
+   * Compares this buffer with another object for equality. Capacities are not compared.
+   *
+   * @param o the object to compare with
+   * @return true if both buffers contain equal elements in the same order
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof RingBuffer<?> that) || size != that.size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (!Objects.equals(get(i), that.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns a hash code based on the buffer's contents.
+   *
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    int result = 1;
+    for (int i = 0; i < size; i++) {
+      result = 31 * result + Objects.hashCode(values[wrap(head + i)]);
+    }
+    return result;
+  }
+
+  /**
+   * Returns a string representation of the buffer.
+   *
+   * @return a readable format of the buffer contents
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("RingBuffer{");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        builder.append(" <-> ");
+      }
+      builder.append(values[wrap(head + i)]);
+    }
+    builder.append("}");
+    return builder.toString();
+  }
+
+  /**
+   * Maps a position in {@code [0, 2 * capacity)} onto the array.
+   */
+  private int wrap(int position) {
+    return position >= values.length ? position - values.length : position;
+  }
+
+  @SuppressWarnings("unchecked")
+  private T valueAt(int slot) {
+    return (T) values[slot];
+  }
+
+}
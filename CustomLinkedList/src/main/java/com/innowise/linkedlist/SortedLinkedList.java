@@ -0,0 +1,494 @@
+package com.innowise.linkedlist;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A doubly linked list that keeps its elements ordered by a comparator. The bottom level is an
+ * ordinary chain of nodes linked through {@code next} and {@code prev}, traversed in order by the
+ * iterators. On top of it every node takes part in a random number of express lanes, as in a skip
+ * list: a node reaches level {@code k} with probability {@code 4^-k}, and each lane links only
+ * the nodes that reached it. A search runs along the highest lane first and drops a level
+ * whenever it would overshoot, so {@link #insert}, {@link #remove(Object)}, {@link #floor},
+ * {@link #ceiling} and the start of a {@link #range} take expected O(log n) time.
+ *
+ * <p>Equal elements are kept in insertion order. Null elements are not permitted. Positional
+ * access with {@link #get(int)} still walks the bottom level. Iterators are fail-fast.
+ *
+ * @param <T> the type of elements stored in the list
+ */
+
+public class SortedLinkedList<T> implements Iterable<T> {
+
+  private static final int MAX_LEVEL = 16;
+
+  private final Comparator<? super T> comparator;
+  private final Node<T> head = new Node<>(null, MAX_LEVEL);
+  private Node<T> tail;
+  private int level = 1;
+  private int size = 0;
+  private int modCount = 0;
+
+  /**
+   * Creates an empty list ordered by the natural ordering of its elements, which must implement
+   * {@link Comparable}.
+   */
+  public SortedLinkedList() {
+    this(null);
+  }
+
+  /**
+   * Creates an empty list ordered by {@code comparator}.
+   *
+   * @param comparator the ordering, or null for the natural ordering
+   */
+  @SuppressWarnings("unchecked")
+  public SortedLinkedList(Comparator<? super T> comparator) {
+    this.comparator = comparator != null
+        ? comparator
+        : (Comparator<? super T>) Comparator.naturalOrder();
+  }
+
+  /**
+   * Inserts the value at its sorted position, after any elements equal to it.
+   *
+   * @param value the value to insert
+   * @throws NullPointerException if value is null
+   */
+  public void insert(T value) {
+    Objects.requireNonNull(value);
+    @SuppressWarnings("unchecked")
+    Node<T>[] update = (Node<T>[]) new Node<?>[MAX_LEVEL];
+    Node<T> node = head;
+    for (int i = level - 1; i >= 0; i--) {
+      while (node.forward[i] != null && comparator.compare(node.forward[i].value, value) <= 0) {
+        node = node.forward[i];
+      }
+      update[i] = node;
+    }
+
+    int newLevel = randomLevel();
+    if (newLevel > level) {
+      for (int i = level; i < newLevel; i++) {
+        update[i] = head;
+      }
+      level = newLevel;
+    }
+    Node<T> newNode = new Node<>(value, newLevel);
+    for (int i = 0; i < newLevel; i++) {
+      newNode.forward[i] = update[i].forward[i];
+      update[i].forward[i] = newNode;
+    }
+
+    newNode.prev = update[0] == head ? null : update[0];
+    Node<T> nextNode = newNode.forward[0];
+    if (nextNode == null) {
+      tail = newNode;
+    } else {
+      nextNode.prev = newNode;
+    }
+    size++;
+    modCount++;
+  }
+
+  /**
+   * Removes the first element equal to {@code value} under the list's ordering.
+   *
+   * @param value the value to remove
+   * @return true if an element was removed
+   * @throws NullPointerException if value is null
+   */
+  public boolean remove(T value) {
+    Node<T> node = lowerNode(value).forward[0];
+    if (node == null || comparator.compare(node.value, value) != 0) {
+      return false;
+    }
+    unlink(node);
+    return true;
+  }
+
+  /**
+   * Returns whether the list holds an element equal to {@code value} under its ordering.
+   *
+   * @param value the value to look for
+   * @return true if such an element exists
+   * @throws NullPointerException if value is null
+   */
+  public boolean contains(T value) {
+    Node<T> node = lowerNode(value).forward[0];
+    return node != null && comparator.compare(node.value, value) == 0;
+  }
+
+  /**
+   * Returns the greatest element less than or equal to {@code value}; the last one if there are
+   * several.
+   *
+   * @param value the value to compare with
+   * @return the matching element, or null if there is none
+   * @throws NullPointerException if value is null
+   */
+  public T floor(T value) {
+    Objects.requireNonNull(value);
+    Node<T> node = head;
+    for (int i = level - 1; i >= 0; i--) {
+      while (node.forward[i] != null && comparator.compare(node.forward[i].value, value) <= 0) {
+        node = node.forward[i];
+      }
+    }
+    return node == head ? null : node.value;
+  }
+
+  /**
+   * Returns the least element greater than or equal to {@code value}; the first one if there are
+   * several.
+   *
+   * @param value the value to compare with
+   * @return the matching element, or null if there is none
+   * @throws NullPointerException if value is null
+   */
+  public T ceiling(T value) {
+    Node<T> node = lowerNode(value).forward[0];
+    return node == null ? null : node.value;
+  }
+
+  /**
+   * Returns the elements from {@code fromInclusive} up to but excluding {@code toExclusive}, in
+   * order. The start is found through the express lanes; the view then walks the bottom level
+   * and reflects the list at the time iteration starts.
+   *
+   * @param fromInclusive the low end of the range
+   * @param toExclusive   the high end of the range
+   * @return a view of the elements in the range
+   * @throws NullPointerException     if either bound is null
+   * @throws IllegalArgumentException if fromInclusive is greater than toExclusive
+   */
+  public Iterable<T> range(T fromInclusive, T toExclusive) {
+    Objects.requireNonNull(fromInclusive);
+    Objects.requireNonNull(toExclusive);
+    if (comparator.compare(fromInclusive, toExclusive) > 0) {
+      throw new IllegalArgumentException("Range start is greater than its end");
+    }
+    return () -> new Itr(lowerNode(fromInclusive).forward[0], toExclusive);
+  }
+
+  /**
+   * Returns the value at the specified index, walking the bottom level from the closer end.
+   *
+   * @param index the position to retrieve
+   * @return the value at the given index
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  public T get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException();
+    }
+    Node<T> node;
+    if (index < size / 2) {
+      node = head.forward[0];
+      for (int i = 0; i < index; i++) {
+        node = node.forward[0];
+      }
+    } else {
+      node = tail;
+      for (int i = size - 1; i > index; i--) {
+        node = node.prev;
+      }
+    }
+    return node.value;
+  }
+
+  /**
+   * Returns the smallest element.
+   *
+   * @return the first value
+   * @throws IllegalStateException if the list is empty
+   */
+  public T getFirst() {
+    if (size == 0) {
+      throw new IllegalStateException("List is empty");
+    }
+    return head.forward[0].value;
+  }
+
+  /**
+   * Returns the largest element.
+   *
+   * @return the last value
+   * @throws IllegalStateException if the list is empty
+   */
+  public T getLast() {
+    if (size == 0) {
+      throw new IllegalStateException("List is empty");
+    }
+    return tail.value;
+  }
+
+  /**
+   * Removes and returns the smallest element.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty
+   */
+  public T removeFirst() {
+    if (size == 0) {
+      throw new IllegalStateException("List is empty");
+    }
+    Node<T> node = head.forward[0];
+    unlink(node);
+    return node.value;
+  }
+
+  /**
+   * Removes and returns the largest element.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty
+   */
+  public T removeLast() {
+    if (size == 0) {
+      throw new IllegalStateException("List is empty");
+    }
+    Node<T> node = tail;
+    unlink(node);
+    return node.value;
+  }
+
+  /**
+   * Returns the number of elements in the list.
+   *
+   * @return the size of the list
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns an iterator from the smallest to the largest element.
+   *
+   * @return a fail-fast iterator
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new Itr(head.forward[0], null);
+  }
+
+  /**
+   * Returns an iterator from the largest to the smallest element, following the {@code prev}
+   * links.
+   *
+   * @return a fail-fast iterator
+   */
+  public Iterator<T> descendingIterator() {
+    return new Iterator<>() {
+      private Node<T> next = tail;
+      private final int expectedModCount = modCount;
+
+      @Override
+      public boolean hasNext() {
+        return next != null;
+      }
+
+      @Override
+      public T next() {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (next == null) {
+          throw new NoSuchElementException();
+        }
+        T value = next.value;
+        next = next.prev;
+        return value;
+      }
+    };
+  }
+
+  /**
+   * Compares this list with another object for equality.
+   *
+   * @param o the object to compare with
+   * @return true if both lists contain equal elements in the same order
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof SortedLinkedList<?> that) || size != that.size) {
+      return false;
+    }
+    Iterator<?> iterator = that.iterator();
+    for (T value : this) {
+      if (!Objects.equals(value, iterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns a hash code based on the list's contents.
+   *
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    int result = 1;
+    for (T value : this) {
+      result = 31 * result + Objects.hashCode(value);
+    }
+    return result;
+  }
+
+  /**
+   * Returns a string representation of the list.
+   *
+   * @return a readable format of the list contents
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("SortedLinkedList{");
+    Iterator<T> iterator = iterator();
+    while (iterator.hasNext()) {
+      builder.append(iterator.next());
+      if (iterator.hasNext()) {
+        builder.append(" <-> ");
+      }
+    }
+    builder.append("}");
+    return builder.toString();
+  }
+
+  /**
+   * Returns the number of express lanes in use, for checking that the structure stays
+   * logarithmic.
+   */
+  int levels() {
+    return level;
+  }
+
+  /**
+   * Returns the last node ordered strictly before {@code value}, or the head sentinel.
+   */
+  private Node<T> lowerNode(T value) {
+    Objects.requireNonNull(value);
+    Node<T> node = head;
+    for (int i = level - 1; i >= 0; i--) {
+      while (node.forward[i] != null && comparator.compare(node.forward[i].value, value) < 0) {
+        node = node.forward[i];
+      }
+    }
+    return node;
+  }
+
+  /**
+   * Removes {@code target} from every lane it takes part in. The predecessors are found by a
+   * search for its value and, among equal elements, by following each lane up to the target.
+   */
+  private void unlink(Node<T> target) {
+    Node<T> node = head;
+    for (int i = level - 1; i >= 0; i--) {
+      while (node.forward[i] != null
+          && comparator.compare(node.forward[i].value, target.value) < 0) {
+        node = node.forward[i];
+      }
+      if (i < target.forward.length) {
+        Node<T> predecessor = node;
+        while (predecessor.forward[i] != target) {
+          predecessor = predecessor.forward[i];
+        }
+        predecessor.forward[i] = target.forward[i];
+      }
+    }
+
+    Node<T> nextNode = target.forward[0];
+    if (nextNode == null) {
+      tail = target.prev;
+    } else {
+      nextNode.prev = target.prev;
+    }
+    while (level > 1 && head.forward[level - 1] == null) {
+      level--;
+    }
+    size--;
+    modCount++;
+  }
+
+  /**
+   * Picks a level with probability {@code 4^-(level - 1)}.
+   */
+  private static int randomLevel() {
+    int random = ThreadLocalRandom.current().nextInt();
+    int level = 1;
+    while (level < MAX_LEVEL && (random & 3) == 0) {
+      level++;
+      random >>>= 2;
+    }
+    return level;
+  }
+
+  /**
+   * Walks the bottom level from {@code next}, stopping before the first element that is not
+   * less than {@code end}, or at the end of the list when {@code end} is null.
+   */
+  private class Itr implements Iterator<T> {
+
+    private Node<T> next;
+    private final T end;
+    private final int expectedModCount = modCount;
+
+    Itr(Node<T> next, T end) {
+      this.next = next;
+      this.end = end;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null && (end == null || comparator.compare(next.value, end) < 0);
+    }
+
+    @Override
+    public T next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T value = next.value;
+      next = next.forward[0];
+      return value;
+    }
+
+  }
+
+  /**
+   * A list node. {@code forward[0]} is the bottom-level {@code next} link, and the higher
+   * entries are the node's express lanes.
+   *
+   * @param <T> the type of value stored
+   */
+  private static final class Node<T> {
+
+    private final T value;
+    private final Node<T>[] forward;
+    private Node<T> prev;
+
+    @SuppressWarnings("unchecked")
+    Node(T value, int level) {
+      this.value = value;
+      this.forward = (Node<T>[]) new Node<?>[level];
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+
+  }
+
+}
@@ -0,0 +1,527 @@
+package com.innowise.linkedlist;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An unrolled doubly linked list. Instead of one node per element, every node stores a small
+ * array of elements, which removes most of the per-element pointer overhead of
+ * {@link LinkedList} and keeps neighbouring elements close together in memory. Full nodes are
+ * split on insertion. A node that falls below half capacity on removal borrows elements from a
+ * neighbour, or is merged with it when both fit into one node, so removals cannot leave the list
+ * made of nearly empty nodes.
+ *
+ * <p>The public API mirrors {@link LinkedList}.
+ *
+ * @param <T> the type of elements stored in the list
+ */
+
+public class UnrolledLinkedList<T> {
+
+  /**
+   * Default number of elements a single node can hold.
+   */
+  public static final int DEFAULT_NODE_CAPACITY = 32;
+
+  private final int nodeCapacity;
+  private Node head;
+  private Node tail;
+  private int size = 0;
+
+  /**
+   * Creates an empty list with the {@link #DEFAULT_NODE_CAPACITY default} node capacity.
+   */
+  public UnrolledLinkedList() {
+    this(DEFAULT_NODE_CAPACITY);
+  }
+
+  /**
+   * Creates an empty list whose nodes hold up to {@code nodeCapacity} elements each.
+   *
+   * @param nodeCapacity the number of elements per node
+   * @throws IllegalArgumentException if {@code nodeCapacity} is less than 2
+   */
+  public UnrolledLinkedList(int nodeCapacity) {
+    if (nodeCapacity < 2) {
+      throw new IllegalArgumentException("Node capacity must be at least 2: " + nodeCapacity);
+    }
+    this.nodeCapacity = nodeCapacity;
+  }
+
+  /**
+   * Inserts the specified value at the beginning of the list.
+   *
+   * @param value the value to insert
+   */
+  public void addFirst(T value) {
+    if (head == null || head.count == nodeCapacity) {
+      linkBefore(head);
+    }
+    head.insert(0, value);
+    size++;
+  }
+
+  /**
+   * Inserts the specified value at the end of the list.
+   *
+   * @param value the value to insert
+   */
+  public void addLast(T value) {
+    if (tail == null || tail.count == nodeCapacity) {
+      linkAfter(tail);
+    }
+    tail.elements[tail.count++] = value;
+    size++;
+  }
+
+  /**
+   * Inserts the specified value at the given index.
+   *
+   * @param index the position to insert at
+   * @param value the value to insert
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  public void add(int index, T value) {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (index == 0) {
+      addFirst(value);
+      return;
+    }
+    if (index == size) {
+      addLast(value);
+      return;
+    }
+
+    Node node = head;
+    int offset = index;
+    if (index < size / 2) {
+      while (offset > node.count) {
+        offset -= node.count;
+        node = node.next;
+      }
+    } else {
+      node = tail;
+      offset = index - (size - tail.count);
+      while (offset < 0) {
+        node = node.prev;
+        offset += node.count;
+      }
+    }
+
+    if (node.count == nodeCapacity) {
+      Node sibling = split(node);
+      if (offset > node.count) {
+        offset -= node.count;
+        node = sibling;
+      }
+    }
+    node.insert(offset, value);
+    size++;
+  }
+
+  /**
+   * Returns the value at the specified index.
+   *
+   * @param index the position to retrieve
+   * @return the value at the given index
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  @SuppressWarnings("unchecked")
+  public T get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException();
+    }
+    Node node = head;
+    int offset = index;
+    if (index < size / 2) {
+      while (offset >= node.count) {
+        offset -= node.count;
+        node = node.next;
+      }
+    } else {
+      node = tail;
+      offset = index - (size - tail.count);
+      while (offset < 0) {
+        node = node.prev;
+        offset += node.count;
+      }
+    }
+    return (T) node.elements[offset];
+  }
+
+  /**
+   * Returns the first element in the list.
+   *
+   * @return the first value
+   * @throws IllegalStateException if the list is empty
+   */
+  @SuppressWarnings("unchecked")
+  public T getFirst() {
+    if (head == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    return (T) head.elements[0];
+  }
+
+  /**
+   * Returns the last element in the list.
+   *
+   * @return the last value
+   * @throws IllegalStateException if the list is empty
+   */
+  @SuppressWarnings("unchecked")
+  public T getLast() {
+    if (tail == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    return (T) tail.elements[tail.count - 1];
+  }
+
+  /**
+   * Removes the element at the specified index.
+   *
+   * @param index the position to remove
+   * @return the removed value
+   * @throws IndexOutOfBoundsException if index is out of range
+   */
+  @SuppressWarnings("unchecked")
+  public T remove(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (index == 0) {
+      return removeFirst();
+    }
+    if (index == size - 1) {
+      return removeLast();
+    }
+
+    Node node = head;
+    int offset = index;
+    if (index < size / 2) {
+      while (offset >= node.count) {
+        offset -= node.count;
+        node = node.next;
+      }
+    } else {
+      node = tail;
+      offset = index - (size - tail.count);
+      while (offset < 0) {
+        node = node.prev;
+        offset += node.count;
+      }
+    }
+
+    T value = (T) node.delete(offset);
+    size--;
+    rebalance(node);
+    return value;
+  }
+
+  /**
+   * Removes and returns the first element in the list.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty
+   */
+  @SuppressWarnings("unchecked")
+  public T removeFirst() {
+    if (head == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    Node node = head;
+    T value = (T) node.delete(0);
+    size--;
+    rebalance(node);
+    return value;
+  }
+
+  /**
+   * Removes and returns the last element in the list.
+   *
+   * @return the removed value
+   * @throws IllegalStateException if the list is empty
+   */
+  @SuppressWarnings("unchecked")
+  public T removeLast() {
+    if (tail == null) {
+      throw new IllegalStateException("List is empty");
+    }
+    Node node = tail;
+    T value = (T) node.elements[--node.count];
+    node.elements[node.count] = null;
+    size--;
+    rebalance(node);
+    return value;
+  }
+
+  /**
+   * Returns the number of elements in the list.
+   *
+   * @return the size of the list
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Compares this list to another for equality based on element values.
+   *
+   * @param o the object to compare with
+   * @return true if both lists contain the same elements in order
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof UnrolledLinkedList<?> that) || size != that.size) {
+      return false;
+    }
+
+    Node nodeA = this.head;
+    Node nodeB = that.head;
+    int offsetA = 0;
+    int offsetB = 0;
+
+    for (int i = 0; i < size; i++) {
+      if (!Objects.equals(nodeA.elements[offsetA], nodeB.elements[offsetB])) {
+        return false;
+      }
+      if (++offsetA == nodeA.count) {
+        nodeA = nodeA.next;
+        offsetA = 0;
+      }
+      if (++offsetB == nodeB.count) {
+        nodeB = nodeB.next;
+        offsetB = 0;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns a hash code based on the list's contents.
+   *
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    int result = 1;
+    for (Node node = head; node != null; node = node.next) {
+      Object[] elements = node.elements;
+      for (int i = 0; i < node.count; i++) {
+        result = 31 * result + Objects.hashCode(elements[i]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns a string representation of the list.
+   *
+   * @return a readable format of the list contents
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("UnrolledLinkedList{");
+    for (Node node = head; node != null; node = node.next) {
+      for (int i = 0; i < node.count; i++) {
+        builder.append(node.elements[i]);
+        if (i < node.count - 1 || node.next != null) {
+          builder.append(" <-> ");
+        }
+      }
+    }
+    builder.append("}");
+    return builder.toString();
+  }
+
+  /**
+   * Returns the number of elements in each node from head to tail, for checking that removals
+   * keep the nodes at least half full.
+   */
+  int[] nodeCounts() {
+    int nodes = 0;
+    for (Node node = head; node != null; node = node.next) {
+      nodes++;
+    }
+    int[] counts = new int[nodes];
+    Node node = head;
+    for (int i = 0; i < nodes; i++, node = node.next) {
+      counts[i] = node.count;
+    }
+    return counts;
+  }
+
+  /**
+   * Links a new empty node in front of {@code successor}, or as the tail when it is null.
+   */
+  private void linkBefore(Node successor) {
+    if (successor == null) {
+      linkAfter(tail);
+      return;
+    }
+    Node newNode = new Node(nodeCapacity);
+    Node predecessor = successor.prev;
+    newNode.prev = predecessor;
+    newNode.next = successor;
+    successor.prev = newNode;
+    if (predecessor == null) {
+      head = newNode;
+    } else {
+      predecessor.next = newNode;
+    }
+  }
+
+  /**
+   * Links a new empty node after {@code predecessor}, or as the head when it is null.
+   */
+  private void linkAfter(Node predecessor) {
+    Node newNode = new Node(nodeCapacity);
+    Node successor = predecessor == null ? head : predecessor.next;
+    newNode.prev = predecessor;
+    newNode.next = successor;
+    if (predecessor == null) {
+      head = newNode;
+    } else {
+      predecessor.next = newNode;
+    }
+    if (successor == null) {
+      tail = newNode;
+    } else {
+      successor.prev = newNode;
+    }
+  }
+
+  /**
+   * Moves the upper half of a full node into a fresh node linked right after it.
+   *
+   * @return the newly linked node
+   */
+  private Node split(Node node) {
+    linkAfter(node);
+    Node sibling = node.next;
+    int keep = node.count / 2;
+    int moved = node.count - keep;
+    System.arraycopy(node.elements, keep, sibling.elements, 0, moved);
+    Arrays.fill(node.elements, keep, node.count, null);
+    sibling.count = moved;
+    node.count = keep;
+    return sibling;
+  }
+
+  /**
+   * Restores the fill of a node that has fallen below half capacity after a removal. The node is
+   * merged with a neighbour, preferably its successor, when their contents fit into a single node;
+   * otherwise it borrows elements from that neighbour so that both end up at least half full.
+   */
+  private void rebalance(Node node) {
+    if (node.count == 0) {
+      unlink(node);
+      return;
+    }
+    if (node.count >= nodeCapacity / 2) {
+      return;
+    }
+    Node successor = node.next;
+    Node predecessor = node.prev;
+    if (successor == null && predecessor == null) {
+      return;
+    }
+    if (successor != null) {
+      if (node.count + successor.count <= nodeCapacity) {
+        mergeWithNext(node);
+      } else {
+        int moved = (successor.count - node.count) / 2;
+        System.arraycopy(successor.elements, 0, node.elements, node.count, moved);
+        node.count += moved;
+        successor.deleteRange(0, moved);
+      }
+    } else if (predecessor.count + node.count <= nodeCapacity) {
+      mergeWithNext(predecessor);
+    } else {
+      int moved = (predecessor.count - node.count) / 2;
+      System.arraycopy(node.elements, 0, node.elements, moved, node.count);
+      System.arraycopy(predecessor.elements, predecessor.count - moved, node.elements, 0, moved);
+      node.count += moved;
+      predecessor.deleteRange(predecessor.count - moved, moved);
+    }
+  }
+
+  /**
+   * Appends the contents of the successor of {@code node} and unlinks the successor.
+   */
+  private void mergeWithNext(Node node) {
+    Node successor = node.next;
+    System.arraycopy(successor.elements, 0, node.elements, node.count, successor.count);
+    node.count += successor.count;
+    unlink(successor);
+  }
+
+  private void unlink(Node node) {
+    Node predecessor = node.prev;
+    Node successor = node.next;
+    if (predecessor == null) {
+      head = successor;
+    } else {
+      predecessor.next = successor;
+    }
+    if (successor == null) {
+      tail = predecessor;
+    } else {
+      successor.prev = predecessor;
+    }
+    node.next = null;
+    node.prev = null;
+  }
+
+  /**
+   * Internal node holding a contiguous run of list elements.
+   */
+  private static final class Node {
+
+    /**
+     * The elements stored in this node; only the first {@link #count} slots are used.
+     */
+    private final Object[] elements;
+    /**
+     * The number of occupied slots.
+     */
+    private int count;
+    /**
+     * Reference to the next node.
+     */
+    private Node next;
+    /**
+     * Reference to the previous node.
+     */
+    private Node prev;
+
+    private Node(int capacity) {
+      this.elements = new Object[capacity];
+    }
+
+    private void insert(int offset, Object value) {
+      System.arraycopy(elements, offset, elements, offset + 1, count - offset);
+      elements[offset] = value;
+      count++;
+    }
+
+    private void deleteRange(int offset, int length) {
+      System.arraycopy(elements, offset + length, elements, offset, count - offset - length);
+      Arrays.fill(elements, count - length, count, null);
+      count -= length;
+    }
+
+        private Object delete(int offset) {
+      Object value = elements[offset];
+      System.arraycopy(elements, offset + 1, elements, offset, count - offset - 1);
+      elements[--count] = null;
+      return value;
+    }
+
+  }
+}
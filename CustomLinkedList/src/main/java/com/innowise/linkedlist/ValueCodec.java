@@ -0,0 +1,107 @@
+package com.innowise.linkedlist;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts values to and from bytes for lists that keep their elements outside the Java heap or
+ * write them to a channel. Encoded values may have different lengths; the caller records the
+ * length returned by {@link #sizeOf(Object)} and passes it back to
+ * {@link #read(ByteBuffer, int, int)}. Implementations use absolute {@link ByteBuffer} access and
+ * must not change the buffer's position or limit.
+ *
+ * @param <T> the type of value handled by the codec
+ * @see FixedWidthCodec
+ */
+public interface ValueCodec<T> {
+
+  /**
+   * Codec for {@link String} values encoded as UTF-8.
+   */
+  ValueCodec<String> UTF_8 = new ValueCodec<>() {
+    @Override
+    public int sizeOf(String value) {
+      int length = 0;
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c < 0x80) {
+          length += 1;
+        } else if (c < 0x800) {
+          length += 2;
+        } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+            && Character.isLowSurrogate(value.charAt(i + 1))) {
+          length += 4;
+          i++;
+        } else if (Character.isSurrogate(c)) {
+          // getBytes replaces an unpaired surrogate with a single '?'
+          length += 1;
+        } else {
+          length += 3;
+        }
+      }
+      return length;
+    }
+
+    @Override
+    public void write(ByteBuffer target, int offset, String value) {
+      target.put(offset, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String read(ByteBuffer source, int offset, int length) {
+      byte[] bytes = new byte[length];
+      source.get(offset, bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+  };
+
+  /**
+   * Codec for raw {@code byte[]} values, stored as-is.
+   */
+  ValueCodec<byte[]> BYTES = new ValueCodec<>() {
+    @Override
+    public int sizeOf(byte[] value) {
+      return value.length;
+    }
+
+    @Override
+    public void write(ByteBuffer target, int offset, byte[] value) {
+      target.put(offset, value);
+    }
+
+    @Override
+    public byte[] read(ByteBuffer source, int offset, int length) {
+      byte[] bytes = new byte[length];
+      source.get(offset, bytes);
+      return bytes;
+    }
+  };
+
+  /**
+   * Returns the number of bytes {@code value} occupies once encoded.
+   *
+   * @param value the value to measure
+   * @return the encoded length in bytes
+   */
+  int sizeOf(T value);
+
+  /**
+   * Encodes a value into {@code target} starting at {@code offset}.
+   *
+   * @param target the buffer to write to
+   * @param offset the absolute index of the first byte
+   * @param value  the value to encode
+   */
+  void write(ByteBuffer target, int offset, T value);
+
+  /**
+   * Decodes a value of {@code length} bytes from {@code source} starting at {@code offset}.
+   *
+   * @param source the buffer to read from
+   * @param offset the absolute index of the first byte
+   * @param length the encoded length, as returned by {@link #sizeOf(Object)}
+   * @return the decoded value
+   */
+  T read(ByteBuffer source, int offset, int length);
+
+}
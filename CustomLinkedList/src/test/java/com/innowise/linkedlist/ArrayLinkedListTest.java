@@ -0,0 +1,235 @@
+package com.innowise.linkedlist;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayLinkedListTest {
+
+  @Test
+  void testAddFirst() {
+    ArrayLinkedList<String> list = new ArrayLinkedList<>();
+    list.addFirst("C");
+    list.addFirst("B");
+    list.addFirst("A");
+    assertEquals("A", list.getFirst());
+    assertEquals(3, list.size());
+  }
+
+  @Test
+  void testAddLast() {
+    ArrayLinkedList<String> list = new ArrayLinkedList<>();
+    list.addLast("A");
+    list.addLast("B");
+    list.addLast("C");
+    assertEquals("C", list.getLast());
+    assertEquals(3, list.size());
+    assertEquals("ArrayLinkedList{A <-> B <-> C}", list.toString());
+  }
+
+  @Test
+  void testAdd() {
+    ArrayLinkedList<String> list = new ArrayLinkedList<>();
+    list.addLast("A");
+    list.addLast("C");
+    list.add(1, "B");
+    assertEquals("B", list.get(1));
+    assertEquals(3, list.size());
+    assertThrows(IndexOutOfBoundsException.class, () -> list.add(4, "D"));
+  }
+
+  @Test
+  void testGet() {
+    ArrayLinkedList<String> list = new ArrayLinkedList<>();
+    list.addLast("A");
+    list.addLast("B");
+    list.addLast("C");
+    assertEquals("A", list.get(0));
+    assertEquals("B", list.get(1));
+    assertEquals("C", list.get(2));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+  }
+
+  @Test
+  void testGetFirst() {
+    ArrayLinkedList<String> list = new ArrayLinkedList<>();
+    list.addFirst("C");
+    list.addFirst("B");
+    list.addFirst("A");
+    assertEquals("A", list.getFirst());
+    assertThrows(IllegalStateException.class, () -> new ArrayLinkedList<>().getFirst());
+  }
+
+  @Test
+  void testGetLast() {
+    ArrayLinkedList<String> list = new ArrayLinkedList<>();
+    list.addLast("A");
+    list.addLast("B");
+    list.addLast("C");
+    assertEquals("C", list.getLast());
+    assertThrows(IllegalStateException.class, () -> new ArrayLinkedList<>().getLast());
+  }
+
+  @Test
+  void testRemove() {
+    ArrayLinkedList<String> list = new ArrayLinkedList<>();
+    list.addLast("A");
+    list.addLast("B");
+    list.addLast("C");
+    String removed = list.remove(1);
+    assertEquals("B", removed);
+    assertEquals("C", list.get(1));
+    assertEquals(2, list.size());
+    assertThrows(IndexOutOfBoundsException.class, () -> list.remove(5));
+  }
+
+  @Test
+  void testRemoveFirst() {
+    ArrayLinkedList<String> list = new ArrayLinkedList<>();
+    list.addLast("A");
+    list.addLast("B");
+    list.addLast("C");
+    String removed = list.removeFirst();
+    assertEquals("A", removed);
+    assertEquals("B", list.getFirst());
+    assertThrows(IllegalStateException.class, () -> new ArrayLinkedList<>().removeFirst());
+  }
+
+  @Test
+  void testRemoveLast() {
+    ArrayLinkedList<String> list = new ArrayLinkedList<>();
+    list.addLast("A");
+    list.addLast("B");
+    list.addLast("C");
+    String removed = list.removeLast();
+    assertEquals("C", removed);
+    assertEquals("B", list.getLast());
+    assertThrows(IllegalStateException.class, () -> new ArrayLinkedList<>().removeLast());
+  }
+
+  @Test
+  void testSize() {
+    ArrayLinkedList<Integer> list = new ArrayLinkedList<>();
+    assertEquals(0, list.size());
+    list.addFirst(1);
+    list.addLast(2);
+    list.add(1, 3);
+    assertEquals(3, list.size());
+  }
+
+  @Test
+  void testRejectsNegativeCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new ArrayLinkedList<>(-1));
+  }
+
+  @Test
+  void testGrowsFromZeroCapacity() {
+    ArrayLinkedList<Integer> list = new ArrayLinkedList<>(0);
+    for (int i = 0; i < 1000; i++) {
+      list.addLast(i);
+    }
+    assertEquals(1000, list.size());
+    assertEquals(999, list.getLast());
+    assertTrue(list.capacity() >= 1000);
+  }
+
+  @Test
+  void testReusesFreedSlots() {
+    ArrayLinkedList<Integer> list = new ArrayLinkedList<>(4);
+    for (int i = 0; i < 4; i++) {
+      list.addLast(i);
+    }
+    for (int i = 0; i < 10_000; i++) {
+      list.removeFirst();
+      list.addLast(i);
+    }
+    assertEquals(4, list.capacity());
+    assertEquals("ArrayLinkedList{9996 <-> 9997 <-> 9998 <-> 9999}", list.toString());
+  }
+
+  @Test
+  void testTrimToSize() {
+    ArrayLinkedList<Integer> list = new ArrayLinkedList<>();
+    for (int i = 0; i < 100; i++) {
+      list.addFirst(i);
+    }
+    for (int i = 0; i < 50; i++) {
+      list.remove(i);
+    }
+    list.trimToSize();
+    assertEquals(50, list.capacity());
+    assertEquals(50, list.size());
+    assertEquals(98, list.getFirst());
+    assertEquals(0, list.getLast());
+    assertEquals(48, list.get(25));
+    list.addLast(-1);
+    assertEquals(-1, list.getLast());
+
+    ArrayLinkedList<Integer> empty = new ArrayLinkedList<>();
+    empty.trimToSize();
+    assertEquals(0, empty.capacity());
+    empty.addFirst(1);
+    assertEquals(1, empty.getLast());
+  }
+
+  @Test
+  void testRandomOperationsMatchArrayList() {
+    Random random = new Random(42);
+    ArrayLinkedList<Integer> list = new ArrayLinkedList<>();
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      int operation = random.nextInt(3);
+      if (operation < 2 || expected.isEmpty()) {
+        int index = random.nextInt(expected.size() + 1);
+        list.add(index, i);
+        expected.add(index, i);
+      } else {
+        int index = random.nextInt(expected.size());
+        assertEquals(expected.remove(index), list.remove(index));
+      }
+    }
+    assertEquals(expected.size(), list.size());
+    Iterator<Integer> iterator = list.iterator();
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i), list.get(i));
+      assertEquals(expected.get(i), iterator.next());
+    }
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testIteratorFailsFast() {
+    ArrayLinkedList<Integer> list = new ArrayLinkedList<>();
+    list.addLast(1);
+    list.addLast(2);
+    Iterator<Integer> iterator = list.iterator();
+    iterator.next();
+    list.addLast(3);
+    assertThrows(ConcurrentModificationException.class, iterator::next);
+  }
+
+  @Test
+  void testEqualsAndHashCodeIgnoreSlotLayout() {
+    ArrayLinkedList<Integer> ascending = new ArrayLinkedList<>();
+    ArrayLinkedList<Integer> descending = new ArrayLinkedList<>();
+    for (int i = 0; i < 100; i++) {
+      ascending.addLast(i);
+      descending.addFirst(99 - i);
+    }
+    assertEquals(ascending, descending);
+    assertEquals(ascending.hashCode(), descending.hashCode());
+    LinkedList<Integer> linked = new LinkedList<>();
+    for (int i = 0; i < 100; i++) {
+      linked.addLast(i);
+    }
+    assertEquals(linked.hashCode(), ascending.hashCode());
+    descending.removeLast();
+    assertNotEquals(ascending, descending);
+  }
+
+}
@@ -0,0 +1,159 @@
+package com.innowise.linkedlist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockingLinkedDequeTest {
+
+  @Test
+  void testOfferAndPollAtBothEnds() {
+    BlockingLinkedDeque<String> deque = new BlockingLinkedDeque<>(3);
+    assertTrue(deque.offerLast("B"));
+    assertTrue(deque.offerFirst("A"));
+    assertTrue(deque.offerLast("C"));
+    assertFalse(deque.offerLast("D"));
+    assertEquals(0, deque.remainingCapacity());
+    assertEquals("BlockingLinkedDeque{A <-> B <-> C}", deque.toString());
+    assertEquals("A", deque.pollFirst());
+    assertEquals("C", deque.pollLast());
+    assertEquals("B", deque.pollLast());
+    assertNull(deque.pollFirst());
+    assertEquals(0, deque.size());
+  }
+
+  @Test
+  void testRejectsNullAndInvalidCapacity() {
+    BlockingLinkedDeque<String> deque = new BlockingLinkedDeque<>(1);
+    assertThrows(NullPointerException.class, () -> deque.offerFirst(null));
+    assertThrows(NullPointerException.class, () -> deque.putLast(null));
+    assertThrows(IllegalArgumentException.class, () -> new BlockingLinkedDeque<>(0));
+    assertThrows(IllegalArgumentException.class, () -> new BlockingLinkedDeque<>(0, 0));
+    assertThrows(IllegalArgumentException.class, () -> new BlockingLinkedDeque<>(1, -1));
+  }
+
+  @Test
+  @Timeout(5)
+  void testTimedOperationsGiveUp() throws InterruptedException {
+    BlockingLinkedDeque<Integer> deque = new BlockingLinkedDeque<>(1);
+    assertNull(deque.pollFirst(10, TimeUnit.MILLISECONDS));
+    assertTrue(deque.offerLast(1, 10, TimeUnit.MILLISECONDS));
+    assertFalse(deque.offerFirst(2, 10, TimeUnit.MILLISECONDS));
+    assertEquals(1, deque.pollLast(10, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  @Timeout(5)
+  void testPutBlocksUntilSpaceIsAvailable() throws InterruptedException {
+    BlockingLinkedDeque<Integer> deque = new BlockingLinkedDeque<>(1);
+    deque.putLast(1);
+    AtomicBoolean inserted = new AtomicBoolean();
+    CountDownLatch started = new CountDownLatch(1);
+    Thread producer = new Thread(() -> {
+      started.countDown();
+      try {
+        deque.putFirst(2);
+        inserted.set(true);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    producer.start();
+    started.await();
+    Thread.sleep(50);
+    assertFalse(inserted.get());
+    assertEquals(1, deque.takeFirst());
+    producer.join();
+    assertTrue(inserted.get());
+    assertEquals(2, deque.takeLast());
+  }
+
+  @Test
+  @Timeout(10)
+  void testDrainToHandsOffInOrder() throws InterruptedException {
+    BlockingLinkedDeque<Integer> deque = new BlockingLinkedDeque<>(100);
+    for (int i = 0; i < 10; i++) {
+      deque.putLast(i);
+    }
+    List<Integer> drained = new ArrayList<>();
+    assertEquals(4, deque.drainTo(drained::add, 4));
+    assertEquals(List.of(0, 1, 2, 3), drained);
+    assertEquals(6, deque.drainTo(drained::add, 100));
+    assertEquals(10, drained.size());
+    assertEquals(0, deque.drainTo(drained::add, 5));
+    assertThrows(IllegalArgumentException.class, () -> deque.drainTo(drained::add, -1));
+  }
+
+  @Test
+  void testDrainToPutsBackUndeliveredElementsWhenConsumerFails() {
+    BlockingLinkedDeque<Integer> deque = new BlockingLinkedDeque<>(5);
+    for (int i = 0; i < 5; i++) {
+      deque.offerLast(i);
+    }
+    List<Integer> drained = new ArrayList<>();
+    IllegalStateException failure = assertThrows(IllegalStateException.class,
+        () -> deque.drainTo(value -> {
+          if (value == 2) {
+            throw new IllegalStateException("consumer failed");
+          }
+          drained.add(value);
+        }, 4));
+    assertEquals("consumer failed", failure.getMessage());
+    assertEquals(List.of(0, 1), drained);
+    assertEquals("BlockingLinkedDeque{3 <-> 4}", deque.toString());
+  }
+
+  @Test
+  void testDrainToPutBackMayExceedCapacity() {
+    BlockingLinkedDeque<Integer> deque = new BlockingLinkedDeque<>(2);
+    deque.offerLast(1);
+    deque.offerLast(2);
+    assertThrows(IllegalStateException.class, () -> deque.drainTo(value -> {
+      assertTrue(deque.offerLast(10));
+      assertTrue(deque.offerLast(20));
+      throw new IllegalStateException();
+    }, 2));
+    assertEquals("BlockingLinkedDeque{2 <-> 10 <-> 20}", deque.toString());
+    assertEquals(3, deque.size());
+    assertEquals(0, deque.remainingCapacity());
+    assertFalse(deque.offerLast(3));
+    assertEquals(2, deque.pollFirst());
+    assertFalse(deque.offerLast(3));
+    assertEquals(10, deque.pollFirst());
+    assertTrue(deque.offerLast(3));
+  }
+
+  @Test
+  @Timeout(20)
+  void testProducerConsumerPipeline() throws InterruptedException {
+    int total = 100_000;
+    BlockingLinkedDeque<Integer> deque = new BlockingLinkedDeque<>(16);
+    Thread producer = new Thread(() -> {
+      try {
+        for (int i = 0; i < total; i++) {
+          deque.putLast(i);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    producer.start();
+    List<Integer> received = new ArrayList<>(total);
+    while (received.size() < total) {
+      received.add(deque.takeFirst());
+      deque.drainTo(received::add, 8);
+      assertTrue(deque.size() <= 16);
+    }
+    producer.join();
+    for (int i = 0; i < total; i++) {
+      assertEquals(i, received.get(i));
+    }
+  }
+
+}
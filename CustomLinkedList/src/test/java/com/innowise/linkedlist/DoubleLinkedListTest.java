@@ -0,0 +1,66 @@
+package com.innowise.linkedlist;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleLinkedListTest {
+
+  @Test
+  void testAddAndGet() {
+    DoubleLinkedList list = new DoubleLinkedList();
+    list.addLast(2.5);
+    list.addFirst(1.5);
+    list.add(1, 2.0);
+    assertEquals(3, list.size());
+    assertEquals(1.5, list.get(0));
+    assertEquals(2.0, list.get(1));
+    assertEquals(2.5, list.getLast());
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+  }
+
+  @Test
+  void testRemove() {
+    DoubleLinkedList list = new DoubleLinkedList();
+    for (int i = 0; i < 4; i++) {
+      list.addLast(i * 0.5);
+    }
+    assertEquals(0.5, list.remove(1));
+    assertEquals(0.0, list.removeFirst());
+    assertEquals(1.5, list.removeLast());
+    assertArrayEquals(new double[] {1.0}, list.toArray());
+    assertThrows(IllegalStateException.class, () -> new DoubleLinkedList().removeLast());
+  }
+
+  @Test
+  void testEqualsFollowsDoubleSemantics() {
+    DoubleLinkedList first = new DoubleLinkedList();
+    DoubleLinkedList second = new DoubleLinkedList();
+    first.addLast(Double.NaN);
+    second.addLast(Double.NaN);
+    assertEquals(first, second);
+    first.addLast(0.0);
+    second.addLast(-0.0);
+    assertNotEquals(first, second);
+  }
+
+  @Test
+  void testHashCodeMatchesBoxedList() {
+    DoubleLinkedList primitive = new DoubleLinkedList();
+    LinkedList<Double> boxed = new LinkedList<>();
+    for (int i = 0; i < 3; i++) {
+      primitive.addLast(i / 3.0);
+      boxed.addLast(i / 3.0);
+    }
+    assertEquals(boxed.hashCode(), primitive.hashCode());
+  }
+
+  @Test
+  void testToString() {
+    DoubleLinkedList list = new DoubleLinkedList();
+    list.addLast(1.5);
+    list.addLast(2.5);
+    assertEquals("DoubleLinkedList{1.5 <-> 2.5}", list.toString());
+  }
+
+}
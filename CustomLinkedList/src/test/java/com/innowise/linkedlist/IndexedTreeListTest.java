@@ -0,0 +1,145 @@
+package com.innowise.linkedlist;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedTreeListTest {
+
+  @Test
+  void testAddFirst() {
+    IndexedTreeList<String> list = new IndexedTreeList<>();
+    list.addFirst("C");
+    list.addFirst("B");
+    list.addFirst("A");
+    assertEquals("A", list.getFirst());
+    assertEquals("C", list.getLast());
+    assertEquals(3, list.size());
+  }
+
+  @Test
+  void testAddLast() {
+    IndexedTreeList<String> list = new IndexedTreeList<>();
+    list.addLast("A");
+    list.addLast("B");
+    list.addLast("C");
+    assertEquals("IndexedTreeList{A <-> B <-> C}", list.toString());
+    assertEquals(3, list.size());
+  }
+
+  @Test
+  void testAddAndGet() {
+    IndexedTreeList<Integer> list = new IndexedTreeList<>();
+    for (int i = 0; i < 8; i++) {
+      list.addLast(i * 10);
+    }
+    list.add(2, 15);
+    list.add(0, -5);
+    list.add(10, 99);
+    assertEquals("IndexedTreeList{-5 <-> 0 <-> 10 <-> 15 <-> 20 <-> 30 <-> 40 <-> 50 <-> 60 <-> 70"
+        + " <-> 99}", list.toString());
+    assertEquals(15, list.get(3));
+    assertEquals(99, list.get(10));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(11));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.add(12, 1));
+  }
+
+  @Test
+  void testGetFirstAndLastOnEmptyList() {
+    IndexedTreeList<String> list = new IndexedTreeList<>();
+    assertThrows(IllegalStateException.class, list::getFirst);
+    assertThrows(IllegalStateException.class, list::getLast);
+    assertThrows(IllegalStateException.class, list::removeFirst);
+    assertThrows(IllegalStateException.class, list::removeLast);
+  }
+
+  @Test
+  void testRemove() {
+    IndexedTreeList<String> list = new IndexedTreeList<>();
+    list.addLast("A");
+    list.addLast("B");
+    list.addLast("C");
+    list.addLast("D");
+    assertEquals("B", list.remove(1));
+    assertEquals("A", list.removeFirst());
+    assertEquals("D", list.removeLast());
+    assertEquals("IndexedTreeList{C}", list.toString());
+    assertThrows(IndexOutOfBoundsException.class, () -> list.remove(1));
+  }
+
+  @Test
+  void testStaysBalanced() {
+    IndexedTreeList<Integer> list = new IndexedTreeList<>();
+    for (int i = 0; i < 100_000; i++) {
+      list.addLast(i);
+    }
+    assertTrue(list.height() <= 25, "height " + list.height());
+    for (int i = 0; i < 50_000; i++) {
+      list.removeFirst();
+    }
+    assertTrue(list.height() <= 24, "height " + list.height());
+    assertEquals(50_000, list.getFirst());
+    assertEquals(75_000, list.get(25_000));
+  }
+
+  @Test
+  void testRandomOperationsMatchArrayList() {
+    Random random = new Random(42);
+    IndexedTreeList<Integer> list = new IndexedTreeList<>();
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      int operation = random.nextInt(3);
+      if (operation < 2 || expected.isEmpty()) {
+        int index = random.nextInt(expected.size() + 1);
+        list.add(index, i);
+        expected.add(index, i);
+      } else {
+        int index = random.nextInt(expected.size());
+        assertEquals(expected.remove(index), list.remove(index));
+      }
+    }
+    assertEquals(expected.size(), list.size());
+    Iterator<Integer> iterator = list.iterator();
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i), list.get(i));
+      assertEquals(expected.get(i), iterator.next());
+    }
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testIteratorFailsFast() {
+    IndexedTreeList<Integer> list = new IndexedTreeList<>();
+    list.addLast(1);
+    list.addLast(2);
+    Iterator<Integer> iterator = list.iterator();
+    iterator.next();
+    list.addLast(3);
+    assertThrows(ConcurrentModificationException.class, iterator::next);
+  }
+
+  @Test
+  void testEqualsAndHashCodeIgnoreTreeShape() {
+    IndexedTreeList<Integer> ascending = new IndexedTreeList<>();
+    IndexedTreeList<Integer> descending = new IndexedTreeList<>();
+    for (int i = 0; i < 100; i++) {
+      ascending.addLast(i);
+      descending.addFirst(99 - i);
+    }
+    assertEquals(ascending, descending);
+    assertEquals(ascending.hashCode(), descending.hashCode());
+    LinkedList<Integer> linked = new LinkedList<>();
+    for (int i = 0; i < 100; i++) {
+      linked.addLast(i);
+    }
+    assertEquals(linked.hashCode(), ascending.hashCode());
+    descending.removeLast();
+    assertNotEquals(ascending, descending);
+  }
+
+}
@@ -0,0 +1,58 @@
+package com.innowise.linkedlist;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntLinkedListTest {
+
+  @Test
+  void testAddAndGet() {
+    IntLinkedList list = new IntLinkedList();
+    list.addLast(2);
+    list.addFirst(1);
+    list.addLast(4);
+    list.add(2, 3);
+    assertEquals(4, list.size());
+    assertEquals(1, list.getFirst());
+    assertEquals(4, list.getLast());
+    for (int i = 0; i < 4; i++) {
+      assertEquals(i + 1, list.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.add(5, 0));
+  }
+
+  @Test
+  void testRemove() {
+    IntLinkedList list = new IntLinkedList();
+    for (int i = 0; i < 5; i++) {
+      list.addLast(i);
+    }
+    assertEquals(2, list.remove(2));
+    assertEquals(0, list.removeFirst());
+    assertEquals(4, list.removeLast());
+    assertArrayEquals(new int[] {1, 3}, list.toArray());
+    assertThrows(IllegalStateException.class, () -> new IntLinkedList().removeFirst());
+    assertThrows(IllegalStateException.class, () -> new IntLinkedList().removeLast());
+    assertThrows(IllegalStateException.class, () -> new IntLinkedList().getFirst());
+  }
+
+  @Test
+  void testEqualsHashCodeAndToString() {
+    IntLinkedList primitive = new IntLinkedList();
+    LinkedList<Integer> boxed = new LinkedList<>();
+    IntLinkedList other = new IntLinkedList();
+    for (int i = 0; i < 3; i++) {
+      primitive.addLast(i);
+      boxed.addLast(i);
+      other.addLast(i);
+    }
+    assertEquals(primitive, other);
+    assertEquals(boxed.hashCode(), primitive.hashCode());
+    assertEquals("IntLinkedList{0 <-> 1 <-> 2}", primitive.toString());
+    other.removeLast();
+    assertNotEquals(primitive, other);
+  }
+
+}
@@ -0,0 +1,141 @@
+package com.innowise.linkedlist;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinkedListStatsTest {
+
+  @Test
+  void testDisabledByDefault() {
+    LinkedList<Integer> list = new LinkedList<>();
+    list.addAll(List.of(1, 2, 3));
+    list.get(1);
+    assertNull(list.stats());
+  }
+
+  @Test
+  void testCountsHopsAndHistogram() {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 0; i < 100; i++) {
+      list.addLast(i);
+    }
+    LinkedListStats stats = new LinkedListStats();
+    list.instrument(stats);
+    assertSame(stats, list.stats());
+
+    list.get(50);
+    assertEquals(1, stats.getIndexedOperations());
+    assertEquals(49, stats.getNodeHops());
+    list.get(51);
+    assertEquals(50, stats.getNodeHops());
+    list.get(5);
+    assertEquals(55, stats.getNodeHops());
+    assertEquals(49, stats.getMaxHops());
+    assertEquals(55.0 / 3, stats.getAverageHops(), 1e-9);
+    assertArrayEquals(new long[] {1, 0, 0, 0, 0, 2, 0, 0, 0, 0}, stats.getIndexHistogram());
+    assertEquals(0, stats.getStructuralModifications());
+  }
+
+  @Test
+  void testCountsEndPositionsWithZeroHops() {
+    LinkedList<Integer> list = new LinkedList<>();
+    LinkedListStats stats = new LinkedListStats();
+    list.instrument(stats);
+
+    list.add(0, 1);
+    list.add(1, 2);
+    list.add(0, 0);
+    assertEquals(2, list.remove(2));
+    assertEquals(1, list.remove(1));
+    assertEquals(0, list.remove(0));
+    assertEquals(6, stats.getIndexedOperations());
+    assertEquals(0, stats.getNodeHops());
+    assertArrayEquals(new long[] {3, 0, 0, 0, 0, 1, 1, 0, 0, 1}, stats.getIndexHistogram());
+  }
+
+  @Test
+  void testIterationIsNotAnIndexedAccess() {
+    LinkedList<Integer> list = new LinkedList<>();
+    list.addAll(List.of(1, 2, 3, 4));
+    LinkedListStats stats = new LinkedListStats();
+    list.instrument(stats);
+
+    int sum = 0;
+    for (int value : list) {
+      sum += value;
+    }
+    assertEquals(10, sum);
+    list.descendingIterator().next();
+    list.listIterator().next();
+    list.listIterator(4).previous();
+    assertEquals(0, stats.getIndexedOperations());
+    assertEquals(0, stats.getNodeHops());
+    assertArrayEquals(new long[10], stats.getIndexHistogram());
+
+    list.listIterator(2).next();
+    assertEquals(1, stats.getIndexedOperations());
+  }
+
+  @Test
+  void testCountsStructuralModifications() {
+    LinkedList<Integer> list = new LinkedList<>();
+    LinkedListStats stats = new LinkedListStats();
+    list.instrument(stats);
+    list.addLast(1);
+    list.addFirst(0);
+    list.add(1, 5);
+    list.remove(1);
+    list.removeLast();
+    list.addAll(List.of(7, 8, 9));
+    list.get(0);
+    assertEquals(6, stats.getStructuralModifications());
+
+    stats.reset();
+    assertEquals(0, stats.getStructuralModifications());
+    assertEquals(0, stats.getIndexedOperations());
+    assertEquals(0.0, stats.getAverageHops());
+
+    list.instrument(null);
+    list.addLast(10);
+    assertEquals(0, stats.getStructuralModifications());
+  }
+
+  @Test
+  void testSharedBetweenLists() {
+    LinkedListStats stats = new LinkedListStats();
+    LinkedList<String> first = new LinkedList<>();
+    LinkedList<String> second = new LinkedList<>();
+    first.instrument(stats);
+    second.instrument(stats);
+    first.addLast("a");
+    second.addLast("b");
+    assertEquals(2, stats.getStructuralModifications());
+  }
+
+  @Test
+  void testRegisterWithJmx() throws JMException {
+    LinkedListStats stats = new LinkedListStats();
+    LinkedList<Integer> list = new LinkedList<>();
+    list.instrument(stats);
+    list.addAll(List.of(1, 2, 3, 4));
+    list.get(2);
+    ObjectName name = stats.register("LinkedListStatsTest");
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      assertTrue(server.isRegistered(name));
+      assertEquals(1L, server.getAttribute(name, "IndexedOperations"));
+      assertEquals(1L, server.getAttribute(name, "StructuralModifications"));
+      assertThrows(IllegalStateException.class, () -> stats.register("other"));
+    } finally {
+      stats.unregister();
+    }
+    assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+  }
+
+}
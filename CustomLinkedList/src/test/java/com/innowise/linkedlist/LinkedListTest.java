@@ -1,6 +1,27 @@
 package com.innowise.linkedlist;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -115,4 +136,844 @@ public class LinkedListTest {
     assertEquals(3, list.size());
   }
 
+  @Test
+  void testSequentialGet() {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 0; i < 1_000; i++) {
+      list.addLast(i);
+    }
+    for (int i = 0; i < list.size(); i++) {
+      assertEquals(i, list.get(i));
+    }
+    for (int i = list.size() - 1; i >= 0; i--) {
+      assertEquals(i, list.get(i));
+    }
+  }
+
+  @Test
+  void testIndexedAccessAfterStructuralChanges() {
+    Random random = new Random(7);
+    LinkedList<Integer> list = new LinkedList<>();
+    List<Integer> expected = new ArrayList<>();
+    for (int step = 0; step < 5_000; step++) {
+      int operation = random.nextInt(7);
+      if (operation == 0 || expected.isEmpty()) {
+        list.addFirst(step);
+        expected.add(0, step);
+      } else if (operation == 1) {
+        list.addLast(step);
+        expected.add(step);
+      } else if (operation == 2) {
+        int index = random.nextInt(expected.size() + 1);
+        list.add(index, step);
+        expected.add(index, step);
+      } else if (operation == 3) {
+        int index = random.nextInt(expected.size());
+        assertEquals(expected.remove(index), list.remove(index));
+      } else if (operation == 4) {
+        assertEquals(expected.remove(0), list.removeFirst());
+      } else if (operation == 5) {
+        assertEquals(expected.remove(expected.size() - 1), list.removeLast());
+      } else {
+        int index = random.nextInt(expected.size());
+        assertEquals(expected.get(index), list.get(index));
+      }
+    }
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i), list.get(i));
+    }
+  }
+
+  @Test
+  void testIterator() {
+    LinkedList<String> list = new LinkedList<>();
+    list.addLast("A");
+    list.addLast("B");
+    list.addLast("C");
+    List<String> visited = new ArrayList<>();
+    for (String value : list) {
+      visited.add(value);
+    }
+    assertEquals(List.of("A", "B", "C"), visited);
+    Iterator<String> iterator = new LinkedList<String>().iterator();
+    assertFalse(iterator.hasNext());
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  @Test
+  void testIteratorRemove() {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 0; i < 10; i++) {
+      list.addLast(i);
+    }
+    Iterator<Integer> iterator = list.iterator();
+    assertThrows(IllegalStateException.class, iterator::remove);
+    while (iterator.hasNext()) {
+      if (iterator.next() % 2 == 0) {
+        iterator.remove();
+      }
+    }
+    assertEquals("LinkedList{1 <-> 3 <-> 5 <-> 7 <-> 9}", list.toString());
+    assertEquals(5, list.size());
+    assertEquals(9, list.getLast());
+    assertEquals(7, list.get(3));
+  }
+
+  @Test
+  void testListIteratorAddAndSet() {
+    LinkedList<String> list = new LinkedList<>();
+    list.addLast("A");
+    list.addLast("C");
+    ListIterator<String> iterator = list.listIterator();
+    iterator.next();
+    iterator.add("B");
+    assertEquals(2, iterator.nextIndex());
+    assertEquals("C", iterator.next());
+    iterator.set("D");
+    iterator.add("E");
+    assertFalse(iterator.hasNext());
+    assertEquals("E", iterator.previous());
+    assertEquals("D", iterator.previous());
+    iterator.remove();
+    assertEquals("LinkedList{A <-> B <-> E}", list.toString());
+    assertEquals("E", list.getLast());
+    assertEquals(3, list.size());
+  }
+
+  @Test
+  void testListIteratorStartingAtIndex() {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 0; i < 5; i++) {
+      list.addLast(i);
+    }
+    ListIterator<Integer> iterator = list.listIterator(5);
+    assertFalse(iterator.hasNext());
+    assertEquals(4, iterator.previous());
+    assertEquals(2, list.listIterator(2).next());
+    assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(6));
+  }
+
+  @Test
+  void testDescendingIterator() {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 0; i < 5; i++) {
+      list.addLast(i);
+    }
+    Iterator<Integer> iterator = list.descendingIterator();
+    List<Integer> visited = new ArrayList<>();
+    while (iterator.hasNext()) {
+      int value = iterator.next();
+      visited.add(value);
+      if (value == 3) {
+        iterator.remove();
+      }
+    }
+    assertEquals(List.of(4, 3, 2, 1, 0), visited);
+    assertEquals("LinkedList{0 <-> 1 <-> 2 <-> 4}", list.toString());
+  }
+
+  @Test
+  void testIteratorFailsFast() {
+    LinkedList<String> list = new LinkedList<>();
+    list.addLast("A");
+    list.addLast("B");
+    Iterator<String> iterator = list.iterator();
+    iterator.next();
+    list.addFirst("C");
+    assertThrows(ConcurrentModificationException.class, iterator::next);
+  }
+
+  @Test
+  void testNodePoolServesQueueChurn() {
+    LinkedList<Integer> list = new LinkedList<>(4);
+    for (int i = 0; i < 4; i++) {
+      list.addLast(i);
+    }
+    assertEquals(4, list.poolMisses());
+    for (int i = 4; i < 1_000; i++) {
+      list.addLast(i);
+      assertEquals(i - 4, list.removeFirst());
+    }
+    assertEquals(5, list.poolMisses());
+    assertEquals(995, list.poolHits());
+    assertEquals("LinkedList{996 <-> 997 <-> 998 <-> 999}", list.toString());
+  }
+
+  @Test
+  void testNodePoolIsBounded() {
+    LinkedList<Integer> list = new LinkedList<>(2);
+    for (int i = 0; i < 10; i++) {
+      list.addLast(i);
+    }
+    for (int i = 0; i < 10; i++) {
+      list.remove(list.size() / 2);
+    }
+    for (int i = 0; i < 5; i++) {
+      list.add(0, i);
+    }
+    assertEquals(2, list.poolHits());
+    assertEquals(13, list.poolMisses());
+    assertEquals("LinkedList{4 <-> 3 <-> 2 <-> 1 <-> 0}", list.toString());
+  }
+
+  @Test
+  void testPoolingDisabledByDefault() {
+    LinkedList<Integer> list = new LinkedList<>();
+    list.addLast(1);
+    list.removeFirst();
+    list.addLast(2);
+    assertEquals(0, list.poolHits());
+    assertEquals(0, list.poolMisses());
+    assertThrows(IllegalArgumentException.class, () -> new LinkedList<>(-1));
+  }
+
+  @Test
+  void testStream() {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 1; i <= 5; i++) {
+      list.addLast(i);
+    }
+    assertEquals(List.of(2, 4), list.stream().filter(v -> v % 2 == 0).collect(Collectors.toList()));
+    assertEquals(15, list.stream().mapToInt(Integer::intValue).sum());
+    assertEquals(0, new LinkedList<Integer>().stream().count());
+  }
+
+  @Test
+  void testParallelStreamPreservesOrder() {
+    LinkedList<Integer> list = new LinkedList<>();
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      list.addLast(i);
+      expected.add(i * 2);
+    }
+    assertEquals(expected, list.parallelStream().map(v -> v * 2).collect(Collectors.toList()));
+    assertEquals(4_999_950_000L, list.parallelStream().mapToLong(Integer::longValue).sum());
+  }
+
+  @Test
+  void testSpliteratorSplitsIntoBalancedHalves() {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 0; i < 4_096; i++) {
+      list.addLast(i);
+    }
+    Spliterator<Integer> suffix = list.spliterator();
+    assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+    Spliterator<Integer> prefix = suffix.trySplit();
+    assertEquals(2_048, prefix.estimateSize());
+    assertEquals(2_048, suffix.estimateSize());
+    prefix.tryAdvance(v -> assertEquals(0, v));
+    suffix.tryAdvance(v -> assertEquals(2_048, v));
+    assertNull(new LinkedList<Integer>().spliterator().trySplit());
+  }
+
+  @Test
+  void testSpliteratorFailsFast() {
+    LinkedList<Integer> list = new LinkedList<>();
+    list.addLast(1);
+    list.addLast(2);
+    Spliterator<Integer> spliterator = list.spliterator();
+    list.addLast(3);
+    assertThrows(ConcurrentModificationException.class, () -> spliterator.tryAdvance(v -> { }));
+  }
+
+  @Test
+  void testAddAllAndToArray() {
+    LinkedList<String> list = new LinkedList<>();
+    list.addLast("A");
+    list.addAll(new String[] {"B", "C"});
+    list.addAll(List.of("D", "E"));
+    list.addAll(new String[0]);
+    assertArrayEquals(new Object[] {"A", "B", "C", "D", "E"}, list.toArray());
+    assertEquals(5, list.size());
+    assertEquals("E", list.getLast());
+    list.addAll(list);
+    assertEquals(10, list.size());
+    assertEquals("E", list.get(9));
+  }
+
+  @Test
+  void testSplice() {
+    LinkedList<Integer> first = new LinkedList<>();
+    LinkedList<Integer> second = new LinkedList<>();
+    first.addAll(List.of(1, 2));
+    second.addAll(List.of(3, 4));
+    first.splice(second);
+    assertEquals("LinkedList{1 <-> 2 <-> 3 <-> 4}", first.toString());
+    assertEquals(0, second.size());
+    assertThrows(IllegalStateException.class, second::getFirst);
+    second.addLast(5);
+    assertEquals("LinkedList{5}", second.toString());
+    assertThrows(IllegalArgumentException.class, () -> first.splice(first));
+  }
+
+  @Test
+  void testSpliceAtIndex() {
+    LinkedList<Integer> list = new LinkedList<>();
+    list.addAll(List.of(0, 5, 6));
+    LinkedList<Integer> middle = new LinkedList<>();
+    middle.addAll(List.of(1, 2, 3, 4));
+    list.get(2);
+    list.splice(1, middle);
+    assertArrayEquals(new Object[] {0, 1, 2, 3, 4, 5, 6}, list.toArray());
+    for (int i = 0; i < list.size(); i++) {
+      assertEquals(i, list.get(i));
+    }
+    LinkedList<Integer> front = new LinkedList<>();
+    front.addAll(List.of(-2, -1));
+    list.splice(0, front);
+    assertEquals(-2, list.getFirst());
+    assertEquals(6, list.get(8));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.splice(10, new LinkedList<>()));
+  }
+
+  @Test
+  void testSplitAt() {
+    LinkedList<Integer> list = new LinkedList<>();
+    list.addAll(List.of(0, 1, 2, 3, 4));
+    list.get(4);
+    LinkedList<Integer> suffix = list.splitAt(2);
+    assertEquals("LinkedList{0 <-> 1}", list.toString());
+    assertEquals("LinkedList{2 <-> 3 <-> 4}", suffix.toString());
+    assertEquals(1, list.get(1));
+    assertEquals(4, suffix.get(2));
+    assertEquals(0, list.splitAt(2).size());
+    LinkedList<Integer> all = list.splitAt(0);
+    assertEquals(0, list.size());
+    assertEquals(2, all.size());
+    list.addLast(9);
+    assertEquals("LinkedList{9}", list.toString());
+    assertThrows(IndexOutOfBoundsException.class, () -> list.splitAt(2));
+  }
+
+  @Test
+  void testWriteToAndReadFrom() throws IOException {
+    LinkedList<String> list = new LinkedList<>();
+    list.addAll(Arrays.asList("alpha", null, "", "привет", "omega"));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    list.writeTo(Channels.newChannel(output), ValueCodec.UTF_8);
+    LinkedList<String> copy = LinkedList.readFrom(
+        Channels.newChannel(new ByteArrayInputStream(output.toByteArray())), ValueCodec.UTF_8);
+    assertEquals(list, copy);
+    assertNull(copy.get(1));
+    assertEquals("", copy.get(2));
+  }
+
+  @Test
+  void testWriteToAndReadFromUnpairedSurrogate() throws IOException {
+    LinkedList<String> list = new LinkedList<>();
+    list.addAll(List.of("\uD800x", "abc"));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    list.writeTo(Channels.newChannel(output), ValueCodec.UTF_8);
+    LinkedList<String> copy = LinkedList.readFrom(
+        Channels.newChannel(new ByteArrayInputStream(output.toByteArray())), ValueCodec.UTF_8);
+    assertEquals("LinkedList{?x <-> abc}", copy.toString());
+  }
+
+  @Test
+  void testWriteToAndReadFromManyAndLargeValues() throws IOException {
+    LinkedList<byte[]> list = new LinkedList<>();
+    for (int i = 0; i < 20_000; i++) {
+      list.addLast(new byte[] {(byte) i, (byte) (i >> 8)});
+    }
+    byte[] large = new byte[200_000];
+    new Random(7).nextBytes(large);
+    list.add(10_000, large);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    list.writeTo(Channels.newChannel(output), ValueCodec.BYTES);
+    LinkedList<byte[]> copy = LinkedList.readFrom(
+        Channels.newChannel(new ByteArrayInputStream(output.toByteArray())), ValueCodec.BYTES);
+    assertEquals(list.size(), copy.size());
+    Iterator<byte[]> expected = list.iterator();
+    for (byte[] actual : copy) {
+      assertArrayEquals(expected.next(), actual);
+    }
+  }
+
+  @Test
+  void testReadFromRejectsBadInput() throws IOException {
+    LinkedList<Integer> list = new LinkedList<>();
+    list.addAll(List.of(1, 2, 3));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    list.writeTo(Channels.newChannel(output), FixedWidthCodec.INT);
+    byte[] bytes = output.toByteArray();
+    byte[] truncated = Arrays.copyOf(bytes, bytes.length - 2);
+    assertThrows(EOFException.class, () -> LinkedList.readFrom(
+        Channels.newChannel(new ByteArrayInputStream(truncated)), FixedWidthCodec.INT));
+    bytes[0] ^= 0x7F;
+    byte[] corrupted = bytes;
+    assertThrows(StreamCorruptedException.class, () -> LinkedList.readFrom(
+        Channels.newChannel(new ByteArrayInputStream(corrupted)), FixedWidthCodec.INT));
+  }
+
+  @Test
+  void testSnapshotIsUnaffectedByLaterChanges() {
+    LinkedList<Integer> list = new LinkedList<>(8);
+    list.addAll(List.of(0, 1, 2, 3, 4));
+    LinkedList.Snapshot<Integer> snapshot = list.snapshot();
+
+    list.addFirst(-1);
+    list.addLast(5);
+    list.add(3, 99);
+    list.remove(4);
+    list.removeFirst();
+    list.removeLast();
+    list.removeLast();
+    ListIterator<Integer> iterator = list.listIterator();
+    while (iterator.hasNext()) {
+      iterator.set(iterator.next() * 10);
+    }
+    list.addLast(7);
+
+    assertEquals("LinkedList{0 <-> 10 <-> 990 <-> 30 <-> 7}", list.toString());
+    assertEquals("Snapshot{0 <-> 1 <-> 2 <-> 3 <-> 4}", snapshot.toString());
+    assertEquals(5, snapshot.size());
+    assertEquals(0, snapshot.getFirst());
+    assertEquals(4, snapshot.getLast());
+    assertEquals(2, snapshot.get(2));
+    assertEquals(List.of(0, 1, 2, 3, 4), snapshot.stream().collect(Collectors.toList()));
+    assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(5));
+  }
+
+  @Test
+  void testSnapshotsOfSeveralGenerations() {
+    LinkedList<String> list = new LinkedList<>();
+    LinkedList.Snapshot<String> empty = list.snapshot();
+    list.addLast("a");
+    list.addLast("b");
+    LinkedList.Snapshot<String> first = list.snapshot();
+    list.addLast("c");
+    LinkedList.Snapshot<String> second = list.snapshot();
+    list.removeFirst();
+    ListIterator<String> iterator = list.listIterator(1);
+    iterator.next();
+    iterator.set("C");
+    LinkedList.Snapshot<String> third = list.snapshot();
+    list.removeLast();
+    list.removeLast();
+
+    assertEquals(0, empty.size());
+    assertThrows(IllegalStateException.class, empty::getFirst);
+    assertArrayEquals(new Object[] {"a", "b"}, first.toArray());
+    assertArrayEquals(new Object[] {"a", "b", "c"}, second.toArray());
+    assertArrayEquals(new Object[] {"b", "C"}, third.toArray());
+    assertEquals("LinkedList{}", list.toString());
+  }
+
+  @Test
+  void testSnapshotAcrossSpliceAndSplit() {
+    LinkedList<Integer> list = new LinkedList<>();
+    list.addAll(List.of(1, 2, 3));
+    LinkedList<Integer> other = new LinkedList<>();
+    other.addAll(List.of(10, 20));
+    LinkedList.Snapshot<Integer> listSnapshot = list.snapshot();
+    LinkedList.Snapshot<Integer> otherSnapshot = other.snapshot();
+
+    list.splice(1, other);
+    list.addLast(4);
+    LinkedList<Integer> suffix = list.splitAt(2);
+    suffix.addLast(5);
+    suffix.removeFirst();
+    list.addLast(6);
+
+    assertEquals("LinkedList{1 <-> 10 <-> 6}", list.toString());
+    assertEquals("LinkedList{2 <-> 3 <-> 4 <-> 5}", suffix.toString());
+    assertEquals("Snapshot{1 <-> 2 <-> 3}", listSnapshot.toString());
+    assertEquals("Snapshot{10 <-> 20}", otherSnapshot.toString());
+  }
+
+  @Test
+  @Timeout(30)
+  void testSnapshotReadWhileWriting() throws InterruptedException {
+    LinkedList<Integer> list = new LinkedList<>(64);
+    for (int i = 0; i < 1_000; i++) {
+      list.addLast(i);
+    }
+    LinkedList.Snapshot<Integer> snapshot = list.snapshot();
+    AtomicBoolean stop = new AtomicBoolean();
+    List<Throwable> failures = new ArrayList<>();
+    Thread reader = new Thread(() -> {
+      try {
+        while (!stop.get()) {
+          int expected = 0;
+          for (Integer value : snapshot) {
+            assertEquals(expected++, value);
+          }
+          assertEquals(1_000, expected);
+        }
+      } catch (Throwable e) {
+        synchronized (failures) {
+          failures.add(e);
+        }
+      }
+    });
+    reader.start();
+    Random random = new Random(3);
+    for (int i = 0; i < 200_000; i++) {
+      switch (random.nextInt(6)) {
+        case 0 -> list.addLast(-i);
+        case 1 -> list.addFirst(-i);
+        case 2 -> list.add(random.nextInt(list.size() + 1), -i);
+        default -> {
+          if (list.size() > 0) {
+            list.remove(random.nextInt(list.size()));
+          }
+        }
+      }
+      if (i % 50_000 == 0) {
+        list.snapshot();
+      }
+    }
+    stop.set(true);
+    reader.join();
+    assertTrue(failures.isEmpty(), failures.toString());
+  }
+
+  @Test
+  void testRemoveIf() {
+    LinkedList<Integer> list = new LinkedList<>(4);
+    for (int i = 0; i < 10; i++) {
+      list.addLast(i);
+    }
+    list.get(7);
+    assertTrue(list.removeIf(value -> value % 3 == 0));
+    assertEquals("LinkedList{1 <-> 2 <-> 4 <-> 5 <-> 7 <-> 8}", list.toString());
+    assertEquals(6, list.size());
+    assertEquals(7, list.get(4));
+    assertEquals(8, list.getLast());
+    assertFalse(list.removeIf(value -> value > 100));
+    assertTrue(list.removeIf(value -> true));
+    assertEquals(0, list.size());
+    assertThrows(IllegalStateException.class, list::getFirst);
+    list.addLast(1);
+    assertEquals("LinkedList{1}", list.toString());
+  }
+
+  @Test
+  void testRemoveIfStaysConsistentWhenFilterThrows() {
+    LinkedList<Integer> list = new LinkedList<>();
+    list.addAll(List.of(1, 2, 3, 4, 5));
+    assertThrows(IllegalStateException.class, () -> list.removeIf(value -> {
+      if (value == 4) {
+        throw new IllegalStateException();
+      }
+      return value % 2 == 1;
+    }));
+    assertEquals("LinkedList{2 <-> 4 <-> 5}", list.toString());
+    assertEquals(3, list.size());
+    assertEquals(5, list.get(2));
+  }
+
+  @Test
+  void testRetainAll() {
+    LinkedList<String> list = new LinkedList<>();
+    list.addAll(Arrays.asList("a", "b", null, "c", "a"));
+    Set<String> kept = new HashSet<>(List.of("a", "c"));
+    assertTrue(list.retainAll(kept));
+    assertEquals("LinkedList{a <-> c <-> a}", list.toString());
+    assertFalse(list.retainAll(kept));
+  }
+
+  @Test
+  void testRemoveRange() {
+    LinkedList<Integer> list = new LinkedList<>(3);
+    for (int i = 0; i < 10; i++) {
+      list.addLast(i);
+    }
+    list.removeRange(2, 6);
+    assertEquals("LinkedList{0 <-> 1 <-> 6 <-> 7 <-> 8 <-> 9}", list.toString());
+    assertEquals(6, list.get(2));
+    list.removeRange(0, 2);
+    assertEquals(6, list.getFirst());
+    list.removeRange(2, 4);
+    assertEquals("LinkedList{6 <-> 7}", list.toString());
+    assertEquals(7, list.getLast());
+    list.removeRange(1, 1);
+    assertEquals(2, list.size());
+    list.removeRange(0, 2);
+    assertEquals(0, list.size());
+    list.addLast(1);
+    list.addLast(2);
+    assertEquals(2, list.poolHits());
+    assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(1, 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(-1, 1));
+  }
+
+  @Test
+  void testBulkRemovalMatchesArrayList() {
+    Random random = new Random(11);
+    LinkedList<Integer> list = new LinkedList<>();
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 2_000; i++) {
+      int value = random.nextInt(100);
+      list.addLast(value);
+      expected.add(value);
+    }
+    LinkedList.Snapshot<Integer> snapshot = list.snapshot();
+    List<Integer> original = new ArrayList<>(expected);
+    list.removeIf(value -> value < 20);
+    expected.removeIf(value -> value < 20);
+    int from = expected.size() / 3;
+    list.removeRange(from, from * 2);
+    expected.subList(from, from * 2).clear();
+    assertEquals(expected, list.stream().collect(Collectors.toList()));
+    for (int i = 0; i < expected.size(); i += 97) {
+      assertEquals(expected.get(i), list.get(i));
+    }
+    assertEquals(original, snapshot.stream().collect(Collectors.toList()));
+  }
+
+  @Test
+  void testSort() {
+    LinkedList<Integer> list = new LinkedList<>();
+    list.addAll(List.of(5, 3, 9, 1, 4, 1, 8));
+    list.get(3);
+    list.sort(null);
+    assertEquals("LinkedList{1 <-> 1 <-> 3 <-> 4 <-> 5 <-> 8 <-> 9}", list.toString());
+    assertEquals(9, list.getLast());
+    assertEquals(4, list.get(3));
+    list.sort(Comparator.reverseOrder());
+    assertEquals("LinkedList{9 <-> 8 <-> 5 <-> 4 <-> 3 <-> 1 <-> 1}", list.toString());
+    ListIterator<Integer> iterator = list.listIterator(list.size());
+    assertEquals(1, iterator.previous());
+    assertEquals(1, iterator.previous());
+    assertEquals(3, iterator.previous());
+    list.addLast(0);
+    list.addFirst(10);
+    assertEquals(9, list.size());
+    assertEquals(0, list.getLast());
+  }
+
+  @Test
+  void testSortIsStable() {
+    LinkedList<String> list = new LinkedList<>();
+    list.addAll(List.of("bb", "a", "cc", "b", "aa", "c", "dd"));
+    list.sort(Comparator.comparingInt(String::length));
+    assertEquals("LinkedList{a <-> b <-> c <-> bb <-> cc <-> aa <-> dd}", list.toString());
+  }
+
+  @Test
+  void testSortKeepsElementsWhenComparatorThrows() {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 20; i > 0; i--) {
+      list.addLast(i);
+    }
+    int[] comparisons = {0};
+    assertThrows(IllegalStateException.class, () -> list.sort((a, b) -> {
+      if (++comparisons[0] == 25) {
+        throw new IllegalStateException();
+      }
+      return Integer.compare(a, b);
+    }));
+    assertEquals(20, list.size());
+    List<Integer> values = list.stream().sorted().collect(Collectors.toList());
+    for (int i = 0; i < 20; i++) {
+      assertEquals(i + 1, values.get(i));
+    }
+    assertEquals(list.get(19), list.getLast());
+  }
+
+  @Test
+  void testSortMatchesArrayList() {
+    Random random = new Random(5);
+    for (int size : new int[] {0, 1, 2, 3, 17, 1_000, 50_000}) {
+      LinkedList<Integer> list = new LinkedList<>();
+      List<Integer> expected = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        int value = random.nextInt(size + 1);
+        list.addLast(value);
+        expected.add(value);
+      }
+      LinkedList.Snapshot<Integer> snapshot = list.snapshot();
+      List<Integer> original = new ArrayList<>(expected);
+      list.sort(Comparator.naturalOrder());
+      expected.sort(Comparator.naturalOrder());
+      assertEquals(expected, list.stream().collect(Collectors.toList()));
+      assertEquals(original, snapshot.stream().collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  void testParallelSort() {
+    Random random = new Random(9);
+    LinkedList<int[]> list = new LinkedList<>();
+    List<int[]> expected = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      int[] value = {random.nextInt(1_000), i};
+      list.addLast(value);
+      expected.add(value);
+    }
+    Comparator<int[]> byKey = Comparator.comparingInt(value -> value[0]);
+    list.parallelSort(byKey);
+    expected.sort(byKey);
+    assertEquals(expected.size(), list.size());
+    Iterator<int[]> iterator = list.iterator();
+    for (int[] value : expected) {
+      assertSame(value, iterator.next());
+    }
+    assertSame(expected.get(expected.size() - 1), list.getLast());
+    assertSame(expected.get(50_000), list.get(50_000));
+  }
+
+  @Test
+  void testParallelSortKeepsElementsWhenComparatorThrows() {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 0; i < 100_000; i++) {
+      list.addLast(100_000 - i);
+    }
+    assertThrows(IllegalArgumentException.class, () -> list.parallelSort((a, b) -> {
+      if (a == 77_777 || b == 77_777) {
+        throw new IllegalArgumentException();
+      }
+      return Integer.compare(a, b);
+    }));
+    assertEquals(100_000, list.size());
+    assertEquals(100_000L * 100_001 / 2, list.stream().mapToLong(Integer::longValue).sum());
+    assertEquals(100_000, list.stream().distinct().count());
+  }
+
+  @Test
+  void testContainsAndIndexOf() {
+    LinkedList<String> list = new LinkedList<>();
+    list.addAll(Arrays.asList("a", "b", null, "a", "c"));
+    assertTrue(list.contains("a"));
+    assertTrue(list.contains(null));
+    assertFalse(list.contains("z"));
+    assertEquals(0, list.indexOf("a"));
+    assertEquals(3, list.lastIndexOf("a"));
+    assertEquals(2, list.indexOf(null));
+    assertEquals(4, list.lastIndexOf("c"));
+    assertEquals(-1, list.indexOf("z"));
+    assertEquals(-1, list.lastIndexOf("z"));
+  }
+
+  @Test
+  void testRemoveObject() {
+    LinkedList<String> list = new LinkedList<>();
+    list.addAll(Arrays.asList("a", "b", null, "a", "c"));
+    assertTrue(list.remove("a"));
+    assertEquals("LinkedList{b <-> null <-> a <-> c}", list.toString());
+    assertTrue(list.remove(null));
+    assertFalse(list.remove("z"));
+    assertEquals("LinkedList{b <-> a <-> c}", list.toString());
+    assertEquals(3, list.size());
+    assertEquals("c", list.get(2));
+  }
+
+  @Test
+  void testValueIndexTracksChanges() {
+    LinkedList<String> list = new LinkedList<>(4);
+    list.addAll(Arrays.asList("a", "b", "c"));
+    assertEquals(0, list.valueIndexFootprint());
+    list.enableValueIndex();
+    assertTrue(list.valueIndexFootprint() > 0);
+
+    list.addFirst("x");
+    list.addLast("y");
+    list.add(2, "a");
+    assertTrue(list.contains("x"));
+    assertEquals(1, list.indexOf("a"));
+    assertEquals(2, list.lastIndexOf("a"));
+
+    assertTrue(list.remove("a"));
+    assertEquals("LinkedList{x <-> a <-> b <-> c <-> y}", list.toString());
+    assertTrue(list.remove("b"));
+    assertFalse(list.contains("b"));
+    assertEquals("LinkedList{x <-> a <-> c <-> y}", list.toString());
+    assertEquals("c", list.get(2));
+
+    list.removeFirst();
+    list.removeLast();
+    assertFalse(list.contains("x"));
+    assertFalse(list.contains("y"));
+    ListIterator<String> iterator = list.listIterator();
+    iterator.next();
+    iterator.set("q");
+    assertFalse(list.contains("a"));
+    assertTrue(list.contains("q"));
+    list.removeIf("c"::equals);
+    assertFalse(list.contains("c"));
+    assertEquals("LinkedList{q}", list.toString());
+
+    list.disableValueIndex();
+    assertEquals(0, list.valueIndexFootprint());
+    assertTrue(list.contains("q"));
+  }
+
+  @Test
+  void testValueIndexAcrossBulkOperations() {
+    LinkedList<Integer> list = new LinkedList<>();
+    list.enableValueIndex();
+    list.addAll(List.of(0, 1, 2, 3, 4, 5));
+    list.removeRange(1, 3);
+    assertFalse(list.contains(1));
+    assertFalse(list.contains(2));
+    LinkedList<Integer> other = new LinkedList<>();
+    other.enableValueIndex();
+    other.addAll(List.of(7, 8));
+    list.splice(1, other);
+    assertTrue(list.contains(7));
+    assertFalse(other.contains(7));
+    LinkedList<Integer> suffix = list.splitAt(3);
+    assertEquals("LinkedList{0 <-> 7 <-> 8}", list.toString());
+    assertFalse(list.contains(4));
+    assertTrue(suffix.contains(4));
+    list.sort(Comparator.reverseOrder());
+    assertTrue(list.remove(Integer.valueOf(8)));
+    assertEquals("LinkedList{7 <-> 0}", list.toString());
+  }
+
+  @Test
+  void testValueIndexMatchesScan() {
+    Random random = new Random(13);
+    LinkedList<Integer> indexed = new LinkedList<>();
+    indexed.enableValueIndex();
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 5_000; i++) {
+      Integer value = random.nextInt(300);
+      switch (random.nextInt(4)) {
+        case 0 -> {
+          indexed.addLast(value);
+          expected.add(value);
+        }
+        case 1 -> {
+          int index = random.nextInt(expected.size() + 1);
+          indexed.add(index, value);
+          expected.add(index, value);
+        }
+        case 2 -> assertEquals(expected.remove(value), indexed.remove(value));
+        default -> {
+          assertEquals(expected.contains(value), indexed.contains(value));
+          assertEquals(expected.indexOf(value), indexed.indexOf(value));
+          assertEquals(expected.lastIndexOf(value), indexed.lastIndexOf(value));
+        }
+      }
+    }
+    assertEquals(expected, indexed.stream().collect(Collectors.toList()));
+  }
+
+  @Test
+  void testNodeHandles() {
+    LinkedList<String> list = new LinkedList<>();
+    LinkedList.Node<String> c = list.linkFirst("C");
+    LinkedList.Node<String> b = list.linkFirst("B");
+    LinkedList.Node<String> a = list.linkFirst("A");
+    assertEquals("B", list.get(1));
+    list.moveToFirst(c);
+    assertEquals("LinkedList{C <-> A <-> B}", list.toString());
+    assertEquals("B", list.getLast());
+    list.moveToFirst(c);
+    list.moveToFirst(b);
+    assertEquals("LinkedList{B <-> C <-> A}", list.toString());
+    assertEquals("C", list.unlink(c));
+    assertEquals("A", list.get(1));
+    assertEquals("A", list.unlink(a));
+    assertEquals("B", list.getLast());
+    assertEquals(1, list.size());
+
+    Iterator<String> iterator = list.iterator();
+    list.moveToFirst(list.linkFirst("D"));
+    assertThrows(ConcurrentModificationException.class, iterator::next);
+  }
+
 }
@@ -0,0 +1,119 @@
+package com.innowise.linkedlist;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ListViewTest {
+
+  private static LinkedList<Integer> listOf(int size) {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 0; i < size; i++) {
+      list.addLast(i);
+    }
+    return list;
+  }
+
+  private static <T> List<T> toList(Iterable<T> view) {
+    List<T> values = new ArrayList<>();
+    view.forEach(values::add);
+    return values;
+  }
+
+  @Test
+  void testMap() {
+    LinkedList<Integer> list = listOf(4);
+    ListView<String> view = list.map(value -> "#" + value);
+    assertEquals("ListView{#0 <-> #1 <-> #2 <-> #3}", view.toString());
+  }
+
+  @Test
+  void testFilter() {
+    LinkedList<Integer> list = listOf(10);
+    assertEquals(List.of(0, 3, 6, 9), toList(list.filter(value -> value % 3 == 0)));
+    assertEquals(List.of(), toList(list.filter(value -> value > 100)));
+  }
+
+  @Test
+  void testSubList() {
+    LinkedList<Integer> list = listOf(10);
+    assertEquals(List.of(3, 4, 5), toList(list.subList(3, 6)));
+    assertEquals(List.of(), toList(list.subList(4, 4)));
+    assertEquals(List.of(5, 4, 3), toList(list.subList(3, 6).reversed()));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.subList(-1, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.subList(5, 11));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.subList(6, 5));
+  }
+
+  @Test
+  void testReversed() {
+    LinkedList<Integer> list = listOf(5);
+    ListView<Integer> reversed = list.reversed();
+    assertEquals(List.of(4, 3, 2, 1, 0), toList(reversed));
+    assertEquals(List.of(0, 1, 2, 3, 4), toList(reversed.reversed()));
+    assertEquals(List.of(8, 4, 0), toList(list.filter(value -> value % 2 == 0)
+        .map(value -> value * 2)
+        .reversed()));
+  }
+
+  @Test
+  void testChainedViewsAreLazyAndStopEarly() {
+    LinkedList<Integer> list = listOf(1_000_000);
+    AtomicInteger mapped = new AtomicInteger();
+    AtomicInteger tested = new AtomicInteger();
+    ListView<Integer> view = list.map(value -> {
+      mapped.incrementAndGet();
+      return value * 3;
+    }).filter(value -> {
+      tested.incrementAndGet();
+      return value % 7 == 0;
+    });
+    assertEquals(0, mapped.get());
+
+    Iterator<Integer> iterator = view.iterator();
+    assertEquals(0, iterator.next());
+    assertEquals(21, iterator.next());
+    assertEquals(8, mapped.get());
+    assertEquals(8, tested.get());
+
+    assertEquals(42, view.stream().skip(2).findFirst().orElseThrow());
+    assertEquals(23, mapped.get());
+  }
+
+  @Test
+  void testViewsFollowTheList() {
+    LinkedList<Integer> list = listOf(3);
+    ListView<Integer> doubled = list.map(value -> value * 2);
+    list.addLast(3);
+    assertEquals(List.of(0, 2, 4, 6), toList(doubled));
+    assertEquals(List.of(0, 2, 4, 6), toList(doubled.toLinkedList()));
+  }
+
+  @Test
+  void testSubListIsInvalidatedByModification() {
+    LinkedList<Integer> list = listOf(5);
+    ListView<Integer> subList = list.subList(1, 3);
+    list.removeFirst();
+    assertThrows(ConcurrentModificationException.class, subList::iterator);
+  }
+
+  @Test
+  void testIteratorFailsFast() {
+    LinkedList<Integer> list = listOf(5);
+    Iterator<Integer> iterator = list.filter(value -> true).iterator();
+    iterator.next();
+    list.addLast(5);
+    assertThrows(ConcurrentModificationException.class, iterator::next);
+
+    Iterator<Integer> exhausted = list.subList(0, 1).iterator();
+    exhausted.next();
+    assertThrows(NoSuchElementException.class, exhausted::next);
+  }
+
+}
@@ -0,0 +1,138 @@
+package com.innowise.linkedlist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LockFreeLinkedDequeTest {
+
+  @Test
+  void testAddAndRemoveAtBothEnds() {
+    LockFreeLinkedDeque<String> deque = new LockFreeLinkedDeque<>();
+    deque.addLast("B");
+    deque.addFirst("A");
+    deque.addLast("C");
+    assertEquals(3, deque.size());
+    assertEquals("A", deque.getFirst());
+    assertEquals("C", deque.getLast());
+    assertEquals("LockFreeLinkedDeque{A <-> B <-> C}", deque.toString());
+    assertEquals("C", deque.removeLast());
+    assertEquals("A", deque.removeFirst());
+    assertEquals("B", deque.removeFirst());
+    assertTrue(deque.isEmpty());
+    assertNull(deque.pollFirst());
+    assertNull(deque.pollLast());
+    assertThrows(IllegalStateException.class, deque::removeFirst);
+    assertThrows(IllegalStateException.class, deque::getLast);
+  }
+
+  @Test
+  void testStackAndQueueOrder() {
+    LockFreeLinkedDeque<Integer> deque = new LockFreeLinkedDeque<>();
+    for (int i = 0; i < 100; i++) {
+      deque.addLast(i);
+    }
+    for (int i = 0; i < 50; i++) {
+      assertEquals(i, deque.pollFirst());
+    }
+    for (int i = 99; i >= 50; i--) {
+      assertEquals(i, deque.pollLast());
+    }
+    assertEquals(0, deque.size());
+  }
+
+  @Test
+  void testRejectsNull() {
+    LockFreeLinkedDeque<String> deque = new LockFreeLinkedDeque<>();
+    assertThrows(NullPointerException.class, () -> deque.addFirst(null));
+    assertThrows(NullPointerException.class, () -> deque.addLast(null));
+  }
+
+  @Test
+  @Timeout(30)
+  void testConcurrentProducersAndConsumersLoseNothing() throws Exception {
+    int threads = 4;
+    int perThread = 50_000;
+    LockFreeLinkedDeque<Integer> deque = new LockFreeLinkedDeque<>();
+    ConcurrentHashMap<Integer, Boolean> consumed = new ConcurrentHashMap<>();
+    AtomicInteger remaining = new AtomicInteger(threads * perThread);
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (int t = 0; t < threads; t++) {
+        int base = t * perThread;
+        boolean front = t % 2 == 0;
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < perThread; i++) {
+            if (front) {
+              deque.addFirst(base + i);
+            } else {
+              deque.addLast(base + i);
+            }
+          }
+          return null;
+        }));
+        futures.add(executor.submit(() -> {
+          start.await();
+          while (remaining.get() > 0) {
+            Integer value = front ? deque.pollFirst() : deque.pollLast();
+            if (value != null) {
+              assertNull(consumed.put(value, Boolean.TRUE), "consumed twice: " + value);
+              remaining.decrementAndGet();
+            }
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(25, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(threads * perThread, consumed.size());
+    assertTrue(deque.isEmpty());
+  }
+
+  @Test
+  @Timeout(30)
+  void testIterationDuringConcurrentUpdatesTerminates() throws Exception {
+    LockFreeLinkedDeque<Integer> deque = new LockFreeLinkedDeque<>();
+    for (int i = 0; i < 1_000; i++) {
+      deque.addLast(i);
+    }
+    Thread writer = new Thread(() -> {
+      for (int i = 0; i < 200_000; i++) {
+        deque.addLast(i);
+        deque.pollFirst();
+        deque.addFirst(i);
+        deque.pollLast();
+      }
+    });
+    writer.start();
+    while (writer.isAlive()) {
+      int count = 0;
+      for (Integer value : deque) {
+        assertNotNull(value);
+        count++;
+      }
+      assertTrue(count > 0);
+    }
+    writer.join();
+    assertEquals(1_000, deque.size());
+  }
+
+}
@@ -0,0 +1,67 @@
+package com.innowise.linkedlist;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongLinkedListTest {
+
+  @Test
+  void testAddAndGet() {
+    LongLinkedList list = new LongLinkedList();
+    list.addLast(2);
+    list.addFirst(1);
+    list.addLast(4);
+    list.add(2, 3);
+    assertEquals(4, list.size());
+    assertEquals(1, list.getFirst());
+    assertEquals(4, list.getLast());
+    for (int i = 0; i < 4; i++) {
+      assertEquals(i + 1, list.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.add(5, 0));
+  }
+
+  @Test
+  void testRemove() {
+    LongLinkedList list = new LongLinkedList();
+    for (int i = 0; i < 5; i++) {
+      list.addLast(i);
+    }
+    assertEquals(2, list.remove(2));
+    assertEquals(0, list.removeFirst());
+    assertEquals(4, list.removeLast());
+    assertArrayEquals(new long[] {1, 3}, list.toArray());
+    assertThrows(IllegalStateException.class, () -> new LongLinkedList().removeFirst());
+    assertThrows(IllegalStateException.class, () -> new LongLinkedList().removeLast());
+    assertThrows(IllegalStateException.class, () -> new LongLinkedList().getFirst());
+  }
+
+  @Test
+  void testStoresFullLongRange() {
+    LongLinkedList list = new LongLinkedList();
+    list.addLast(Long.MAX_VALUE);
+    list.addFirst(Long.MIN_VALUE);
+    assertEquals(Long.MIN_VALUE, list.get(0));
+    assertEquals(Long.MAX_VALUE, list.get(1));
+  }
+
+  @Test
+  void testEqualsHashCodeAndToString() {
+    LongLinkedList primitive = new LongLinkedList();
+    LinkedList<Long> boxed = new LinkedList<>();
+    LongLinkedList other = new LongLinkedList();
+    for (int i = 0; i < 3; i++) {
+      primitive.addLast(i);
+      boxed.addLast((long) i);
+      other.addLast(i);
+    }
+    assertEquals(primitive, other);
+    assertEquals(boxed.hashCode(), primitive.hashCode());
+    assertEquals("LongLinkedList{0 <-> 1 <-> 2}", primitive.toString());
+    other.removeLast();
+    assertNotEquals(primitive, other);
+  }
+
+}
@@ -0,0 +1,154 @@
+package com.innowise.linkedlist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LruCacheTest {
+
+  @Test
+  void testEvictsLeastRecentlyUsed() {
+    LruCache<String, Integer> cache = new LruCache<>(3);
+    cache.put("a", 1);
+    cache.put("b", 2);
+    cache.put("c", 3);
+    assertEquals(1, cache.get("a"));
+    cache.put("d", 4);
+    assertFalse(cache.containsKey("b"));
+    assertEquals(3, cache.size());
+    assertEquals("LruCache{d=4 <-> a=1 <-> c=3}", cache.toString());
+  }
+
+  @Test
+  void testPutReplacesValue() {
+    LruCache<String, Integer> cache = new LruCache<>(2);
+    cache.put("a", 1);
+    cache.put("b", 2);
+    assertEquals(1, cache.put("a", 10));
+    cache.put("c", 3);
+    assertEquals(10, cache.get("a"));
+    assertNull(cache.get("b"));
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  void testRemoveAndClear() {
+    LruCache<String, Integer> cache = new LruCache<>(3);
+    cache.put("a", 1);
+    cache.put("b", 2);
+    cache.put("c", 3);
+    assertEquals(2, cache.remove("b"));
+    assertNull(cache.remove("b"));
+    assertEquals("LruCache{c=3 <-> a=1}", cache.toString());
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.weight());
+    cache.put("d", 4);
+    assertEquals("LruCache{d=4}", cache.toString());
+  }
+
+  @Test
+  void testWeightBound() {
+    LruCache<String, String> cache = new LruCache<>(10, (key, value) -> value.length());
+    cache.put("a", "xxxx");
+    cache.put("b", "xxxx");
+    assertEquals(8, cache.weight());
+    cache.put("c", "xxxx");
+    assertFalse(cache.containsKey("a"));
+    assertEquals(8, cache.weight());
+    cache.put("b", "x");
+    assertEquals(5, cache.weight());
+    cache.put("huge", "xxxxxxxxxxxx");
+    assertFalse(cache.containsKey("huge"));
+    assertEquals(2, cache.size());
+    assertThrows(IllegalArgumentException.class,
+        () -> new LruCache<String, String>(10, (key, value) -> -1).put("a", "b"));
+  }
+
+  @Test
+  void testEvictionListener() {
+    LruCache<Integer, String> cache = new LruCache<>(2);
+    List<Integer> evicted = new ArrayList<>();
+    cache.addEvictionListener((key, value) -> evicted.add(key));
+    cache.put(1, "one");
+    cache.put(2, "two");
+    cache.put(3, "three");
+    cache.get(2);
+    cache.put(4, "four");
+    cache.remove(2);
+    assertEquals(List.of(1, 3), evicted);
+    assertEquals(2, cache.evictionCount());
+  }
+
+  @Test
+  void testStatistics() {
+    LruCache<Integer, Integer> cache = new LruCache<>(4);
+    assertEquals(0, cache.hitRate());
+    cache.put(1, 1);
+    cache.get(1);
+    cache.get(1);
+    cache.get(1);
+    cache.get(2);
+    assertEquals(3, cache.hitCount());
+    assertEquals(1, cache.missCount());
+    assertEquals(0.75, cache.hitRate());
+    cache.containsKey(2);
+    assertEquals(1, cache.missCount());
+  }
+
+  @Test
+  void testRejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new LruCache<>(0));
+    assertThrows(IllegalArgumentException.class,
+        () -> new LruCache<>(10, (key, value) -> 1, 0));
+    LruCache<String, String> cache = new LruCache<>(1);
+    assertThrows(NullPointerException.class, () -> cache.put(null, "a"));
+    assertThrows(NullPointerException.class, () -> cache.put("a", null));
+    assertThrows(NullPointerException.class, () -> cache.get(null));
+  }
+
+  @Test
+  void testStripesAreBoundedByCapacity() {
+    assertEquals(1, new LruCache<>(100).stripes());
+    assertEquals(8, new LruCache<>(100, (key, value) -> 1, 5).stripes());
+    assertEquals(2, new LruCache<>(3, (key, value) -> 1, 16).stripes());
+  }
+
+  @Test
+  void testConcurrentAccessStaysWithinBound() throws Exception {
+    int threads = 8;
+    LruCache<Integer, Integer> cache = new LruCache<>(1000, (key, value) -> 1, threads);
+    AtomicLong evicted = new AtomicLong();
+    cache.addEvictionListener((key, value) -> evicted.incrementAndGet());
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        int offset = t * 10_000;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 10_000; i++) {
+            cache.put(offset + i, i);
+            cache.get(offset + i / 2);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1000, cache.size());
+    assertEquals(threads * 10_000 - 1000, cache.evictionCount());
+    assertEquals(cache.evictionCount(), evicted.get());
+    assertEquals(threads * 10_000, cache.hitCount() + cache.missCount());
+  }
+
+}
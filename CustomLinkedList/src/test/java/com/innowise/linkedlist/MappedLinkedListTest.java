@@ -0,0 +1,159 @@
+package com.innowise.linkedlist;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedLinkedListTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void testAddGetAndRemove() {
+    try (MappedLinkedList<Long> list =
+        new MappedLinkedList<>(directory.resolve("longs.list"), FixedWidthCodec.LONG)) {
+      list.addLast(2L);
+      list.addFirst(1L);
+      list.addLast(3L);
+      assertEquals(3, list.size());
+      assertEquals(2L, list.get(1));
+      assertEquals("MappedLinkedList{1 <-> 2 <-> 3}", list.toString());
+      assertEquals(1L, list.removeFirst());
+      assertEquals(3L, list.removeLast());
+      assertEquals(2L, list.getFirst());
+      assertEquals(2L, list.getLast());
+      assertEquals(2L, list.removeLast());
+      assertThrows(IllegalStateException.class, list::removeFirst);
+      assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+  }
+
+  @Test
+  void testReopenKeepsContents() {
+    Path file = directory.resolve("strings.list");
+    try (MappedLinkedList<String> list = new MappedLinkedList<>(file, ValueCodec.UTF_8, 4096)) {
+      list.addLast("first");
+      list.addLast("zweiter Eintrag");
+      list.addLast("третий");
+      list.addFirst("");
+    }
+    try (MappedLinkedList<String> list = new MappedLinkedList<>(file, ValueCodec.UTF_8)) {
+      assertEquals(4, list.size());
+      assertEquals("", list.getFirst());
+      assertEquals("zweiter Eintrag", list.get(2));
+      assertEquals("третий", list.getLast());
+    }
+  }
+
+  @Test
+  void testUnpairedSurrogatesRoundTrip() {
+    String[] values = {"\uD800x", "abc", "y\uDC00", "\uD83D\uDE00", "\uDC00\uD800"};
+    for (String value : values) {
+      assertEquals(value.getBytes(StandardCharsets.UTF_8).length,
+          ValueCodec.UTF_8.sizeOf(value), value);
+    }
+    try (MappedLinkedList<String> list =
+        new MappedLinkedList<>(directory.resolve("surrogates.list"), ValueCodec.UTF_8, 4096)) {
+      for (String value : values) {
+        list.addLast(value);
+      }
+      assertEquals("MappedLinkedList{?x <-> abc <-> y? <-> \uD83D\uDE00 <-> ??}",
+          list.toString());
+    }
+  }
+
+  @Test
+  void testRemovedRecordsAreReused() throws IOException {
+    Path file = directory.resolve("queue.list");
+    try (MappedLinkedList<Integer> list = new MappedLinkedList<>(file, FixedWidthCodec.INT, 4096)) {
+      for (int i = 0; i < 100; i++) {
+        list.addLast(i);
+      }
+      for (int i = 100; i < 100_000; i++) {
+        list.addLast(i);
+        assertEquals(i - 100, list.removeFirst());
+      }
+      assertEquals(100, list.size());
+      assertEquals(99_999, list.getLast());
+    }
+    assertEquals(4096, Files.size(file));
+  }
+
+  @Test
+  void testGrowsAcrossSegments() {
+    Path file = directory.resolve("segments.list");
+    try (MappedLinkedList<byte[]> list = new MappedLinkedList<>(file, ValueCodec.BYTES, 4096)) {
+      for (int i = 0; i < 200; i++) {
+        list.addLast(new byte[i]);
+      }
+      for (int i = 0; i < 200; i++) {
+        assertEquals(i, list.get(i).length);
+      }
+      assertThrows(IllegalArgumentException.class, () -> list.addLast(new byte[5000]));
+      assertEquals(200, list.size());
+    }
+  }
+
+  @Test
+  void testRejectsIncompatibleFiles() throws IOException {
+    Path file = directory.resolve("ints.list");
+    try (MappedLinkedList<Integer> list = new MappedLinkedList<>(file, FixedWidthCodec.INT)) {
+      list.addLast(1);
+    }
+    assertThrows(IllegalArgumentException.class,
+        () -> new MappedLinkedList<>(file, FixedWidthCodec.LONG));
+    Path garbage = directory.resolve("garbage.bin");
+    Files.write(garbage, new byte[1024]);
+    assertThrows(IllegalArgumentException.class,
+        () -> new MappedLinkedList<>(garbage, ValueCodec.UTF_8));
+    assertThrows(IllegalArgumentException.class,
+        () -> new MappedLinkedList<>(directory.resolve("x.list"), ValueCodec.UTF_8, 1000));
+  }
+
+  @Test
+  void testLeavesForeignFilesUnchanged() throws IOException {
+    Path text = directory.resolve("notes.txt");
+    byte[] contents = "hello".getBytes(StandardCharsets.UTF_8);
+    Files.write(text, contents);
+    assertThrows(IllegalArgumentException.class,
+        () -> new MappedLinkedList<>(text, ValueCodec.UTF_8));
+    assertEquals(contents.length, Files.size(text));
+    assertArrayEquals(contents, Files.readAllBytes(text));
+
+    Path ints = directory.resolve("ints.list");
+    try (MappedLinkedList<Integer> list = new MappedLinkedList<>(ints, FixedWidthCodec.INT)) {
+      list.addLast(1);
+    }
+    byte[] written = Files.readAllBytes(ints);
+    assertThrows(IllegalArgumentException.class,
+        () -> new MappedLinkedList<>(ints, FixedWidthCodec.LONG));
+    assertArrayEquals(written, Files.readAllBytes(ints));
+  }
+
+  @Test
+  void testRejectsNullValues() {
+    try (MappedLinkedList<String> list =
+        new MappedLinkedList<>(directory.resolve("nulls.list"), ValueCodec.UTF_8)) {
+      assertThrows(NullPointerException.class, () -> list.addLast(null));
+      assertThrows(NullPointerException.class, () -> list.addFirst(null));
+      assertEquals(0, list.size());
+    }
+  }
+
+  @Test
+  void testClosedListRejectsOperations() {
+    MappedLinkedList<Integer> list =
+        new MappedLinkedList<>(directory.resolve("closed.list"), FixedWidthCodec.INT);
+    list.close();
+    list.close();
+    assertThrows(IllegalStateException.class, () -> list.addLast(1));
+    assertThrows(IllegalStateException.class, list::size);
+  }
+
+}
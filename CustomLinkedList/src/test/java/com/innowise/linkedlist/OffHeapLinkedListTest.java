@@ -0,0 +1,106 @@
+package com.innowise.linkedlist;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapLinkedListTest {
+
+  @Test
+  void testAddAndGet() {
+    try (OffHeapLinkedList<Long> list = new OffHeapLinkedList<>(FixedWidthCodec.LONG)) {
+      list.addLast(2L);
+      list.addFirst(1L);
+      list.addLast(3L);
+      assertEquals(3, list.size());
+      assertEquals(1L, list.getFirst());
+      assertEquals(3L, list.getLast());
+      assertEquals(2L, list.get(1));
+      assertEquals("OffHeapLinkedList{1 <-> 2 <-> 3}", list.toString());
+      assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+  }
+
+  @Test
+  void testRemoveFirstAndLast() {
+    try (OffHeapLinkedList<Integer> list = new OffHeapLinkedList<>(FixedWidthCodec.INT)) {
+      list.addLast(1);
+      list.addLast(2);
+      list.addLast(3);
+      assertEquals(1, list.removeFirst());
+      assertEquals(3, list.removeLast());
+      assertEquals(2, list.removeLast());
+      assertEquals(0, list.size());
+      assertThrows(IllegalStateException.class, list::removeFirst);
+      assertThrows(IllegalStateException.class, list::getLast);
+    }
+  }
+
+  @Test
+  void testGrowsAcrossChunksAndReusesSlots() {
+    try (OffHeapLinkedList<Double> list = new OffHeapLinkedList<>(FixedWidthCodec.DOUBLE, 4)) {
+      Deque<Double> expected = new ArrayDeque<>();
+      Random random = new Random(3);
+      for (int step = 0; step < 2_000; step++) {
+        int operation = random.nextInt(4);
+        if (operation == 0 || expected.isEmpty()) {
+          list.addLast((double) step);
+          expected.addLast((double) step);
+        } else if (operation == 1) {
+          list.addFirst((double) step);
+          expected.addFirst((double) step);
+        } else if (operation == 2) {
+          assertEquals(expected.removeFirst(), list.removeFirst());
+        } else {
+          assertEquals(expected.removeLast(), list.removeLast());
+        }
+        assertEquals(expected.size(), list.size());
+      }
+      int index = 0;
+      for (Double value : expected) {
+        assertEquals(value, list.get(index++));
+      }
+      long reserved = list.reservedBytes();
+      for (int i = 0; i < 100; i++) {
+        list.addLast(0.0);
+        list.removeFirst();
+      }
+      assertEquals(reserved, list.reservedBytes());
+    }
+  }
+
+  @Test
+  void testFailedEncodingDoesNotLeakSlot() {
+    try (OffHeapLinkedList<Integer> list = new OffHeapLinkedList<>(FixedWidthCodec.INT, 1)) {
+      assertThrows(NullPointerException.class, () -> list.addLast(null));
+      list.addLast(7);
+      assertEquals(4 + 4 + 4, list.reservedBytes());
+      assertEquals(7, list.getFirst());
+    }
+  }
+
+  @Test
+  void testClosedListRejectsOperations() {
+    OffHeapLinkedList<Integer> list = new OffHeapLinkedList<>(FixedWidthCodec.INT);
+    list.addLast(1);
+    list.close();
+    assertEquals(0, list.reservedBytes());
+    assertThrows(IllegalStateException.class, () -> list.addLast(2));
+    assertThrows(IllegalStateException.class, () -> list.get(0));
+    assertThrows(IllegalStateException.class, list::removeFirst);
+    assertThrows(IllegalStateException.class, list::size);
+    assertEquals("OffHeapLinkedList{closed}", list.toString());
+  }
+
+  @Test
+  void testRejectsInvalidChunkSize() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new OffHeapLinkedList<>(FixedWidthCodec.INT, 3));
+    assertThrows(IllegalArgumentException.class,
+        () -> new OffHeapLinkedList<>(FixedWidthCodec.INT, 0));
+  }
+
+}
@@ -0,0 +1,157 @@
+package com.innowise.linkedlist;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RingBufferTest {
+
+  @Test
+  void testAddLastOverwritesFirst() {
+    RingBuffer<Integer> buffer = new RingBuffer<>(3);
+    assertNull(buffer.addLast(1));
+    assertNull(buffer.addLast(2));
+    assertNull(buffer.addLast(3));
+    assertTrue(buffer.isFull());
+    assertEquals(1, buffer.addLast(4));
+    assertEquals(2, buffer.addLast(5));
+    assertEquals("RingBuffer{3 <-> 4 <-> 5}", buffer.toString());
+    assertEquals(3, buffer.size());
+    assertEquals(3, buffer.capacity());
+  }
+
+  @Test
+  void testAddFirstOverwritesLast() {
+    RingBuffer<String> buffer = new RingBuffer<>(2);
+    buffer.addFirst("C");
+    buffer.addFirst("B");
+    assertEquals("C", buffer.addFirst("A"));
+    assertEquals("A", buffer.getFirst());
+    assertEquals("B", buffer.getLast());
+  }
+
+  @Test
+  void testGet() {
+    RingBuffer<Integer> buffer = new RingBuffer<>(4);
+    for (int i = 0; i < 10; i++) {
+      buffer.addLast(i);
+    }
+    assertEquals(6, buffer.get(0));
+    assertEquals(9, buffer.get(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(4));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(-1));
+  }
+
+  @Test
+  void testRemoveFirstAndLast() {
+    RingBuffer<Integer> buffer = new RingBuffer<>(3);
+    for (int i = 0; i < 5; i++) {
+      buffer.addLast(i);
+    }
+    assertEquals(2, buffer.removeFirst());
+    assertEquals(4, buffer.removeLast());
+    assertEquals(1, buffer.size());
+    assertFalse(buffer.isFull());
+    assertEquals(3, buffer.getFirst());
+    assertEquals(3, buffer.removeLast());
+    assertThrows(IllegalStateException.class, buffer::removeFirst);
+    assertThrows(IllegalStateException.class, buffer::removeLast);
+    assertThrows(IllegalStateException.class, buffer::getFirst);
+    assertThrows(IllegalStateException.class, buffer::getLast);
+  }
+
+  @Test
+  void testClear() {
+    RingBuffer<Integer> buffer = new RingBuffer<>(3);
+    for (int i = 0; i < 5; i++) {
+      buffer.addLast(i);
+    }
+    buffer.clear();
+    assertEquals(0, buffer.size());
+    buffer.addLast(7);
+    assertEquals("RingBuffer{7}", buffer.toString());
+  }
+
+  @Test
+  void testRejectsNonPositiveCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(0));
+  }
+
+  @Test
+  void testRandomOperationsMatchBoundedDeque() {
+    Random random = new Random(42);
+    int capacity = 7;
+    RingBuffer<Integer> buffer = new RingBuffer<>(capacity);
+    Deque<Integer> expected = new ArrayDeque<>();
+    for (int i = 0; i < 10_000; i++) {
+      switch (random.nextInt(4)) {
+        case 0 -> {
+          Integer dropped = expected.size() == capacity ? expected.removeFirst() : null;
+          expected.addLast(i);
+          assertEquals(dropped, buffer.addLast(i));
+        }
+        case 1 -> {
+          Integer dropped = expected.size() == capacity ? expected.removeLast() : null;
+          expected.addFirst(i);
+          assertEquals(dropped, buffer.addFirst(i));
+        }
+        case 2 -> {
+          if (!expected.isEmpty()) {
+            assertEquals(expected.removeFirst(), buffer.removeFirst());
+          }
+        }
+        default -> {
+          if (!expected.isEmpty()) {
+            assertEquals(expected.removeLast(), buffer.removeLast());
+          }
+        }
+      }
+      assertEquals(expected.size(), buffer.size());
+    }
+    Iterator<Integer> iterator = buffer.iterator();
+    int index = 0;
+    for (Integer value : expected) {
+      assertEquals(value, buffer.get(index++));
+      assertEquals(value, iterator.next());
+    }
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testIteratorFailsFast() {
+    RingBuffer<Integer> buffer = new RingBuffer<>(2);
+    buffer.addLast(1);
+    buffer.addLast(2);
+    Iterator<Integer> iterator = buffer.iterator();
+    iterator.next();
+    buffer.addLast(3);
+    assertThrows(ConcurrentModificationException.class, iterator::next);
+  }
+
+  @Test
+  void testEqualsAndHashCodeIgnoreCapacityAndOffset() {
+    RingBuffer<Integer> wrapped = new RingBuffer<>(3);
+    RingBuffer<Integer> larger = new RingBuffer<>(10);
+    for (int i = 0; i < 5; i++) {
+      wrapped.addLast(i);
+    }
+    for (int i = 2; i < 5; i++) {
+      larger.addLast(i);
+    }
+    assertEquals(wrapped, larger);
+    assertEquals(wrapped.hashCode(), larger.hashCode());
+    LinkedList<Integer> linked = new LinkedList<>();
+    for (int i = 2; i < 5; i++) {
+      linked.addLast(i);
+    }
+    assertEquals(linked.hashCode(), wrapped.hashCode());
+    larger.removeFirst();
+    assertNotEquals(wrapped, larger);
+  }
+
+}
@@ -0,0 +1,198 @@
+package com.innowise.linkedlist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortedLinkedListTest {
+
+  @Test
+  void testInsertKeepsOrder() {
+    SortedLinkedList<Integer> list = new SortedLinkedList<>();
+    list.insert(5);
+    list.insert(1);
+    list.insert(3);
+    list.insert(3);
+    assertEquals("SortedLinkedList{1 <-> 3 <-> 3 <-> 5}", list.toString());
+    assertEquals(4, list.size());
+    assertEquals(1, list.getFirst());
+    assertEquals(5, list.getLast());
+    assertEquals(3, list.get(2));
+  }
+
+  @Test
+  void testEqualElementsKeepInsertionOrder() {
+    SortedLinkedList<String> list = new SortedLinkedList<>(Comparator.comparingInt(String::length));
+    list.insert("bb");
+    list.insert("a");
+    list.insert("cc");
+    list.insert("dd");
+    assertEquals("SortedLinkedList{a <-> bb <-> cc <-> dd}", list.toString());
+    assertTrue(list.remove("xx"));
+    assertEquals("SortedLinkedList{a <-> cc <-> dd}", list.toString());
+    assertEquals("dd", list.floor("zz"));
+    assertEquals("cc", list.ceiling("zz"));
+  }
+
+  @Test
+  void testRemove() {
+    SortedLinkedList<Integer> list = new SortedLinkedList<>();
+    for (int i = 0; i < 10; i++) {
+      list.insert(i);
+    }
+    assertTrue(list.remove(4));
+    assertFalse(list.remove(4));
+    assertFalse(list.contains(4));
+    assertTrue(list.contains(5));
+    assertEquals(0, list.removeFirst());
+    assertEquals(9, list.removeLast());
+    assertEquals("SortedLinkedList{1 <-> 2 <-> 3 <-> 5 <-> 6 <-> 7 <-> 8}", list.toString());
+    assertThrows(IllegalStateException.class, () -> new SortedLinkedList<Integer>().removeFirst());
+    assertThrows(IllegalStateException.class, () -> new SortedLinkedList<Integer>().getLast());
+  }
+
+  @Test
+  void testFloorAndCeiling() {
+    SortedLinkedList<Integer> list = new SortedLinkedList<>();
+    for (int i = 0; i < 100; i += 10) {
+      list.insert(i);
+    }
+    assertEquals(20, list.floor(25));
+    assertEquals(30, list.ceiling(25));
+    assertEquals(30, list.floor(30));
+    assertEquals(30, list.ceiling(30));
+    assertNull(list.floor(-1));
+    assertNull(list.ceiling(91));
+    assertEquals(90, list.floor(1000));
+  }
+
+  @Test
+  void testRange() {
+    SortedLinkedList<Integer> list = new SortedLinkedList<>();
+    for (int i = 0; i < 20; i++) {
+      list.insert(i * 2);
+    }
+    List<Integer> values = new ArrayList<>();
+    list.range(5, 13).forEach(values::add);
+    assertEquals(List.of(6, 8, 10, 12), values);
+    values.clear();
+    list.range(7, 7).forEach(values::add);
+    assertTrue(values.isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> list.range(10, 5));
+  }
+
+  @Test
+  void testDescendingIterator() {
+    SortedLinkedList<Integer> list = new SortedLinkedList<>(Comparator.reverseOrder());
+    list.insert(1);
+    list.insert(3);
+    list.insert(2);
+    Iterator<Integer> iterator = list.descendingIterator();
+    assertEquals(1, iterator.next());
+    assertEquals(2, iterator.next());
+    assertEquals(3, iterator.next());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testRejectsNull() {
+    SortedLinkedList<Integer> list = new SortedLinkedList<>();
+    assertThrows(NullPointerException.class, () -> list.insert(null));
+    assertThrows(NullPointerException.class, () -> list.floor(null));
+    assertThrows(NullPointerException.class, () -> list.remove(null));
+  }
+
+  @Test
+  void testRandomOperationsMatchSortedArrayList() {
+    Random random = new Random(42);
+    SortedLinkedList<Integer> list = new SortedLinkedList<>();
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      Integer value = random.nextInt(2_000);
+      int position = Collections.binarySearch(expected, value);
+      switch (random.nextInt(5)) {
+        case 0, 1 -> {
+          list.insert(value);
+          expected.add(position < 0 ? -position - 1 : position, value);
+        }
+        case 2 -> assertEquals(expected.remove(value), list.remove(value));
+        case 3 -> {
+          int ceiling = position < 0 ? -position - 1 : position;
+          while (ceiling > 0 && expected.get(ceiling - 1).equals(value)) {
+            ceiling--;
+          }
+          assertEquals(ceiling < expected.size() ? expected.get(ceiling) : null,
+              list.ceiling(value));
+        }
+        default -> {
+          int floor = position < 0 ? -position - 2 : position;
+          assertEquals(floor >= 0 ? expected.get(floor) : null, list.floor(value));
+        }
+      }
+    }
+    assertEquals(expected.size(), list.size());
+    Iterator<Integer> iterator = list.iterator();
+    for (Integer value : expected) {
+      assertEquals(value, iterator.next());
+    }
+    assertFalse(iterator.hasNext());
+    assertTrue(list.levels() <= 12, "levels: " + list.levels());
+  }
+
+  @Test
+  void testRemoveFirstAndLastDrainInOrder() {
+    SortedLinkedList<Integer> list = new SortedLinkedList<>();
+    Random random = new Random(7);
+    for (int i = 0; i < 5_000; i++) {
+      list.insert(random.nextInt(100));
+    }
+    int previousLow = Integer.MIN_VALUE;
+    int previousHigh = Integer.MAX_VALUE;
+    while (list.size() > 0) {
+      int low = list.removeFirst();
+      assertTrue(low >= previousLow);
+      previousLow = low;
+      if (list.size() > 0) {
+        int high = list.removeLast();
+        assertTrue(high <= previousHigh);
+        previousHigh = high;
+      }
+    }
+    assertEquals(1, list.levels());
+    list.insert(1);
+    assertEquals(1, list.getLast());
+  }
+
+  @Test
+  void testIteratorFailsFast() {
+    SortedLinkedList<Integer> list = new SortedLinkedList<>();
+    list.insert(1);
+    list.insert(2);
+    Iterator<Integer> iterator = list.iterator();
+    iterator.next();
+    list.insert(3);
+    assertThrows(ConcurrentModificationException.class, iterator::next);
+  }
+
+  @Test
+  void testEqualsAndHashCode() {
+    SortedLinkedList<Integer> ascending = new SortedLinkedList<>();
+    SortedLinkedList<Integer> descending = new SortedLinkedList<>();
+    for (int i = 0; i < 100; i++) {
+      ascending.insert(i);
+      descending.insert(99 - i);
+    }
+    assertEquals(ascending, descending);
+    assertEquals(ascending.hashCode(), descending.hashCode());
+    descending.removeLast();
+    assertNotEquals(ascending, descending);
+  }
+
+}
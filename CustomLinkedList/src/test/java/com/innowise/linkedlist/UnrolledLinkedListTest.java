@@ -0,0 +1,166 @@
+package com.innowise.linkedlist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnrolledLinkedListTest {
+
+  @Test
+  void testAddFirst() {
+    UnrolledLinkedList<String> list = new UnrolledLinkedList<>(2);
+    list.addFirst("C");
+    list.addFirst("B");
+    list.addFirst("A");
+    assertEquals("A", list.getFirst());
+    assertEquals("C", list.getLast());
+    assertEquals(3, list.size());
+  }
+
+  @Test
+  void testAddLast() {
+    UnrolledLinkedList<String> list = new UnrolledLinkedList<>(2);
+    list.addLast("A");
+    list.addLast("B");
+    list.addLast("C");
+    assertEquals("A", list.getFirst());
+    assertEquals("C", list.getLast());
+    assertEquals(3, list.size());
+  }
+
+  @Test
+  void testAddSplitsFullNode() {
+    UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+    for (int i = 0; i < 8; i++) {
+      list.addLast(i * 10);
+    }
+    list.add(2, 15);
+    list.add(7, 55);
+    assertEquals("UnrolledLinkedList{0 <-> 10 <-> 15 <-> 20 <-> 30 <-> 40 <-> 50 <-> 55 <-> 60"
+        + " <-> 70}", list.toString());
+    assertEquals(10, list.size());
+  }
+
+  @Test
+  void testGet() {
+    UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(3);
+    for (int i = 0; i < 10; i++) {
+      list.addLast(i);
+    }
+    for (int i = 0; i < 10; i++) {
+      assertEquals(i, list.get(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(10));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+  }
+
+  @Test
+  void testGetFirstAndLastOnEmptyList() {
+    assertThrows(IllegalStateException.class, () -> new UnrolledLinkedList<>().getFirst());
+    assertThrows(IllegalStateException.class, () -> new UnrolledLinkedList<>().getLast());
+  }
+
+  @Test
+  void testRemove() {
+    UnrolledLinkedList<String> list = new UnrolledLinkedList<>(2);
+    list.addLast("A");
+    list.addLast("B");
+    list.addLast("C");
+    list.addLast("D");
+    String removed = list.remove(1);
+    assertEquals("B", removed);
+    assertEquals("C", list.get(1));
+    assertEquals(3, list.size());
+    assertThrows(IndexOutOfBoundsException.class, () -> list.remove(5));
+  }
+
+  @Test
+  void testRemoveFirstAndLast() {
+    UnrolledLinkedList<String> list = new UnrolledLinkedList<>(2);
+    list.addLast("A");
+    list.addLast("B");
+    list.addLast("C");
+    assertEquals("A", list.removeFirst());
+    assertEquals("C", list.removeLast());
+    assertEquals("B", list.removeLast());
+    assertEquals(0, list.size());
+    assertThrows(IllegalStateException.class, list::removeFirst);
+    assertThrows(IllegalStateException.class, list::removeLast);
+  }
+
+  @Test
+  void testRandomOperationsMatchArrayList() {
+    Random random = new Random(42);
+    UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+    List<Integer> expected = new ArrayList<>();
+    for (int step = 0; step < 5_000; step++) {
+      int operation = random.nextInt(6);
+      if (operation < 3 || expected.isEmpty()) {
+        int index = random.nextInt(expected.size() + 1);
+        list.add(index, step);
+        expected.add(index, step);
+      } else if (operation == 3) {
+        int index = random.nextInt(expected.size());
+        assertEquals(expected.remove(index), list.remove(index));
+      } else if (operation == 4) {
+        assertEquals(expected.remove(0), list.removeFirst());
+      } else {
+        assertEquals(expected.remove(expected.size() - 1), list.removeLast());
+      }
+      assertEquals(expected.size(), list.size());
+    }
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i), list.get(i));
+    }
+  }
+
+  @Test
+  void testScatteredRemovalsKeepNodesHalfFull() {
+    Random random = new Random(7);
+    UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(32);
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 3_200; i++) {
+      list.addLast(i);
+      expected.add(i);
+    }
+    while (expected.size() > 100) {
+      int index = random.nextInt(expected.size());
+      assertEquals(expected.remove(index), list.remove(index));
+      if (expected.size() % 97 == 0) {
+        assertEquals(expected.remove(0), list.removeFirst());
+        assertEquals(expected.remove(expected.size() - 1), list.removeLast());
+      }
+      int[] counts = list.nodeCounts();
+      for (int count : counts) {
+        assertTrue(counts.length == 1 || count >= 16, "node holds " + count + " of 32");
+      }
+    }
+    assertTrue(list.nodeCounts().length <= 7, "nodes: " + list.nodeCounts().length);
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i), list.get(i));
+    }
+  }
+
+  @Test
+  void testEqualsAndHashCodeIgnoreNodeLayout() {
+    UnrolledLinkedList<Integer> packed = new UnrolledLinkedList<>(8);
+    UnrolledLinkedList<Integer> sparse = new UnrolledLinkedList<>(2);
+    for (int i = 0; i < 5; i++) {
+      packed.addLast(i);
+      sparse.addFirst(4 - i);
+    }
+    assertEquals(packed, sparse);
+    assertEquals(packed.hashCode(), sparse.hashCode());
+    sparse.removeLast();
+    assertNotEquals(packed, sparse);
+  }
+
+  @Test
+  void testRejectsTooSmallNodeCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<>(1));
+  }
+
+}
@@ -0,0 +1,71 @@
+package com.innowise.linkedlist.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * How the indexed benchmarks pick the position of each operation.
+ *
+ * <p>The custom {@link com.innowise.linkedlist.LinkedList} remembers the last node it reached and
+ * walks from there when that is closest. {@link #HEAD} and {@link #TAIL} never walk, and for the
+ * custom list {@link #MIDDLE} and {@link #SEQUENTIAL} measure that cache rather than traversal.
+ * Only {@link #RANDOM} and {@link #ALTERNATING} make it walk.
+ */
+public enum AccessPattern {
+
+  /**
+   * Always the first element.
+   */
+  HEAD,
+  /**
+   * Always the last element.
+   */
+  TAIL,
+  /**
+   * Always the middle element, the farthest position from both ends. Repeated accesses at one
+   * position do not walk the custom list; see {@link #ALTERNATING} for its worst case.
+   */
+  MIDDLE,
+  /**
+   * Uniformly random positions.
+   */
+  RANDOM,
+  /**
+   * Positions {@code 0, 1, 2, ...}, wrapping around at the end, as a loop over the indices would.
+   */
+  SEQUENTIAL,
+  /**
+   * Alternately a quarter and three quarters of the way through the list. Every access is a
+   * quarter of the list away from both ends and from the previous position, so remembering the
+   * last node reached does not help.
+   */
+  ALTERNATING;
+
+  /**
+   * Number of precomputed indices; a power of two so the cursor can wrap with a mask.
+   */
+  static final int INDEX_COUNT = 1 << 12;
+
+  /**
+   * Precomputes the sequence of indices this pattern visits in a list of {@code size} elements.
+   * Computing them up front keeps random number generation out of the measured code.
+   *
+   * @param size the list size
+   * @return {@link #INDEX_COUNT} indices in {@code [0, size)}
+   */
+  int[] indices(int size) {
+    int[] indices = new int[INDEX_COUNT];
+    SplittableRandom random = new SplittableRandom(42);
+    for (int i = 0; i < INDEX_COUNT; i++) {
+      indices[i] = switch (this) {
+        case HEAD -> 0;
+        case TAIL -> size - 1;
+        case MIDDLE -> size / 2;
+        case RANDOM -> random.nextInt(size);
+        case SEQUENTIAL -> i % size;
+        case ALTERNATING -> i % 2 == 0 ? size / 4 : 3 * size / 4;
+      };
+    }
+    return indices;
+  }
+
+}
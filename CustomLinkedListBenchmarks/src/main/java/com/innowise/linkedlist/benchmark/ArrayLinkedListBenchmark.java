@@ -0,0 +1,100 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.ArrayLinkedList;
+import com.innowise.linkedlist.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The struct-of-arrays {@link ArrayLinkedList} against the node-based {@link LinkedList}.
+ *
+ * <p>The {@code build*} benchmarks fill a presized list from scratch, so with {@code -prof gc}
+ * their {@code gc.alloc.rate.norm} is the footprint of the list structure itself: a node per
+ * element for {@link LinkedList} against three array slots for {@link ArrayLinkedList}. The
+ * element values come from a shared array and are not counted. The {@code traverse*} benchmarks
+ * iterate a prebuilt list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ArrayLinkedListBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  private int size;
+
+  private Integer[] values;
+  private LinkedList<Integer> linkedList;
+  private ArrayLinkedList<Integer> arrayLinkedList;
+
+  @Setup
+  public void setUp() {
+    values = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = i;
+    }
+    linkedList = buildLinkedList();
+    arrayLinkedList = buildArrayLinkedList();
+  }
+
+  @Benchmark
+  public LinkedList<Integer> buildLinkedList() {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (Integer value : values) {
+      list.addLast(value);
+    }
+    return list;
+  }
+
+  @Benchmark
+  public ArrayLinkedList<Integer> buildArrayLinkedList() {
+    ArrayLinkedList<Integer> list = new ArrayLinkedList<>(size);
+    for (Integer value : values) {
+      list.addLast(value);
+    }
+    return list;
+  }
+
+  @Benchmark
+  public long traverseLinkedList() {
+    long sum = 0;
+    for (Integer value : linkedList) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long traverseArrayLinkedList() {
+    long sum = 0;
+    for (Integer value : arrayLinkedList) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public Integer churnLinkedList() {
+    linkedList.addLast(linkedList.removeFirst());
+    return linkedList.getFirst();
+  }
+
+  @Benchmark
+  public Integer churnArrayLinkedList() {
+    arrayLinkedList.addLast(arrayLinkedList.removeFirst());
+    return arrayLinkedList.getFirst();
+  }
+
+}
@@ -0,0 +1,33 @@
+package com.innowise.linkedlist.benchmark;
+
+/**
+ * The operations shared by the list implementations under benchmark.
+ * {@link com.innowise.linkedlist.LinkedList} does not implement {@link java.util.List}, so the
+ * benchmarks talk to every implementation through this adapter instead.
+ *
+ * @see ListImplementation
+ */
+interface BenchmarkList {
+
+  void addFirst(Integer value);
+
+  void addLast(Integer value);
+
+  void add(int index, Integer value);
+
+  Integer get(int index);
+
+  Integer remove(int index);
+
+  Integer removeFirst();
+
+  Integer removeLast();
+
+  /**
+   * Returns the wrapped list, used for {@code equals} and {@code hashCode}.
+   *
+   * @return the underlying list
+   */
+  Object unwrap();
+
+}
@@ -0,0 +1,64 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cleanup passes over a large list: removing every other element with {@link LinkedList#removeIf}
+ * against {@link java.util.LinkedList#removeIf}, and dropping the middle half with
+ * {@link LinkedList#removeRange}. The lists are rebuilt before every invocation, so each call
+ * measures one full pass.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkRemovalBenchmark {
+
+  @Param({"100000", "5000000"})
+  private int size;
+
+  private LinkedList<Integer> linkedList;
+  private java.util.LinkedList<Integer> jdkList;
+
+  @Setup(Level.Invocation)
+  public void setUp() {
+    linkedList = new LinkedList<>();
+    jdkList = new java.util.LinkedList<>();
+    for (int i = 0; i < size; i++) {
+      linkedList.addLast(i);
+      jdkList.addLast(i);
+    }
+  }
+
+  @Benchmark
+  public boolean linkedListRemoveIf() {
+    return linkedList.removeIf(value -> (value & 1) == 0);
+  }
+
+  @Benchmark
+  public boolean jdkRemoveIf() {
+    return jdkList.removeIf(value -> (value & 1) == 0);
+  }
+
+  @Benchmark
+  public LinkedList<Integer> linkedListRemoveRange() {
+    linkedList.removeRange(size / 4, size - size / 4);
+    return linkedList;
+  }
+
+}
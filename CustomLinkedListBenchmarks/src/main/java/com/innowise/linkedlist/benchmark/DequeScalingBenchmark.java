@@ -0,0 +1,90 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.LinkedList;
+import com.innowise.linkedlist.LockFreeLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Multi-threaded throughput of {@link LockFreeLinkedDeque} against a {@link LinkedList} guarded
+ * by a monitor. Every thread pushes at one end and pops at the other, so producers and consumers
+ * contend on both ends at once.
+ *
+ * <p>{@link #main(String[])} runs the benchmark at 1, 2, 4, 8 and 16 threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DequeScalingBenchmark {
+
+  private static final int PREFILL = 1_024;
+  private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+
+  private LockFreeLinkedDeque<Integer> lockFreeDeque;
+  private LinkedList<Integer> lockedList;
+
+  @Setup
+  public void setUp() {
+    lockFreeDeque = new LockFreeLinkedDeque<>();
+    lockedList = new LinkedList<>();
+    for (int i = 0; i < PREFILL; i++) {
+      lockFreeDeque.addLast(i);
+      lockedList.addLast(i);
+    }
+  }
+
+  @Benchmark
+  public Integer lockFreeQueue() {
+    lockFreeDeque.addLast(1);
+    return lockFreeDeque.pollFirst();
+  }
+
+  @Benchmark
+  public Integer lockFreeReverseQueue() {
+    lockFreeDeque.addFirst(1);
+    return lockFreeDeque.pollLast();
+  }
+
+  @Benchmark
+  public Integer lockedQueue() {
+    synchronized (lockedList) {
+      lockedList.addLast(1);
+      return lockedList.removeFirst();
+    }
+  }
+
+  @Benchmark
+  public Integer lockedReverseQueue() {
+    synchronized (lockedList) {
+      lockedList.addFirst(1);
+      return lockedList.removeLast();
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : THREAD_COUNTS) {
+      Options options = new OptionsBuilder()
+          .include(DequeScalingBenchmark.class.getSimpleName())
+          .threads(threads)
+          .build();
+      new Runner(options).run();
+    }
+  }
+
+}
@@ -0,0 +1,184 @@
+package com.innowise.linkedlist.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Measures the memory footprint of every {@link ListImplementation} at sizes from 1 to 10^7 and
+ * writes it as a CSV table, one row per implementation and size:
+ *
+ * <ul>
+ *   <li>{@code retained_bytes}: the bytes reachable from the list, found by walking its object
+ *       graph with JOL, without the {@link Integer} elements themselves</li>
+ *   <li>{@code bytes_per_element}: {@code retained_bytes / size}</li>
+ *   <li>{@code alloc_per_add}: bytes allocated per {@code addLast} while filling the list, array
+ *       copies included</li>
+ *   <li>{@code alloc_per_churn}: bytes allocated per {@code addLast} and {@code removeLast} pair
+ *       on the filled list</li>
+ * </ul>
+ *
+ * <p>Allocation is read from the per-thread counter of the HotSpot {@code ThreadMXBean}, so it
+ * is exact and free of GC timing noise. Each implementation is filled and churned once before
+ * its first measurement, so the numbers come from compiled code. Arguments are optional:
+ *
+ * <pre>
+ * --sizes 1,1000     sizes to measure (default: powers of ten from 1 to 10^7)
+ * --output FILE      where to write the table (default: footprint.csv)
+ * --baseline FILE    an earlier table; exit with status 1 if bytes_per_element or alloc_per_add
+ *                    of any row grew by more than 5%
+ * </pre>
+ *
+ * <p>Walking ten million objects needs a large heap, for example {@code -Xmx12g}.
+ */
+public final class FootprintReport {
+
+  private static final String HEADER =
+      "implementation,size,retained_bytes,bytes_per_element,alloc_per_add,alloc_per_churn";
+  private static final int CHURN_OPERATIONS = 100_000;
+  private static final int WARM_UP_SIZE = 100_000;
+  private static final double TOLERANCE = 1.05;
+
+  private FootprintReport() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    List<Integer> sizes = List.of(1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000);
+    Path output = Path.of("footprint.csv");
+    Path baseline = null;
+    for (int i = 0; i < args.length; i += 2) {
+      if (i + 1 == args.length) {
+        throw new IllegalArgumentException("Missing value for option: " + args[i]);
+      }
+      switch (args[i]) {
+        case "--sizes" -> sizes = parseSizes(args[i + 1]);
+        case "--output" -> output = Path.of(args[i + 1]);
+        case "--baseline" -> baseline = Path.of(args[i + 1]);
+        default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+      }
+    }
+
+    List<String> rows = new ArrayList<>();
+    for (ListImplementation implementation : ListImplementation.values()) {
+      warmUp(implementation);
+      for (int size : sizes) {
+        String row = measure(implementation, size);
+        System.out.println(row);
+        rows.add(row);
+      }
+    }
+    try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+      writer.println(HEADER);
+      rows.forEach(writer::println);
+    }
+    System.out.println("Written to " + output.toAbsolutePath());
+
+    if (baseline != null && !compare(rows, baseline)) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Fills and churns a throwaway list so that {@code addLast} and {@code removeLast} are compiled
+   * before they are measured; interpreted code allocates differently from compiled code, which
+   * can eliminate allocations by escape analysis.
+   */
+  private static void warmUp(ListImplementation implementation) {
+    BenchmarkList list = implementation.create();
+    Integer value = 0;
+    for (int i = 0; i < WARM_UP_SIZE; i++) {
+      list.addLast(value);
+    }
+    for (int i = 0; i < CHURN_OPERATIONS; i++) {
+      list.addLast(value);
+      list.removeLast();
+    }
+  }
+
+  private static String measure(ListImplementation implementation, int size) {
+    Integer[] values = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = i;
+    }
+    Integer extra = -1;
+
+    BenchmarkList list = implementation.create();
+    long before = allocatedBytes();
+    for (Integer value : values) {
+      list.addLast(value);
+    }
+    double allocPerAdd = (double) (allocatedBytes() - before) / size;
+
+    long elementBytes = (long) size * ClassLayout.parseClass(Integer.class).instanceSize();
+    long retained = GraphLayout.parseInstance(list.unwrap()).totalSize() - elementBytes;
+
+    before = allocatedBytes();
+    for (int i = 0; i < CHURN_OPERATIONS; i++) {
+      list.addLast(extra);
+      list.removeLast();
+    }
+    double allocPerChurn = (double) (allocatedBytes() - before) / CHURN_OPERATIONS;
+
+    return String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.2f,%.2f", implementation, size, retained,
+        (double) retained / size, allocPerAdd, allocPerChurn);
+  }
+
+  /**
+   * Prints every row whose footprint grew by more than the tolerance against the baseline table.
+   *
+   * @return true if no row regressed
+   */
+  private static boolean compare(List<String> rows, Path baseline) throws IOException {
+    Map<String, String[]> expected = new HashMap<>();
+    try (BufferedReader reader = Files.newBufferedReader(baseline)) {
+      reader.readLine();
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String[] columns = line.split(",");
+        expected.put(columns[0] + "," + columns[1], columns);
+      }
+    }
+    boolean passed = true;
+    for (String row : rows) {
+      String[] columns = row.split(",");
+      String[] old = expected.get(columns[0] + "," + columns[1]);
+      if (old == null) {
+        continue;
+      }
+      for (int column : new int[] {3, 4}) {
+        double now = Double.parseDouble(columns[column]);
+        double then = Double.parseDouble(old[column]);
+        if (now > then * TOLERANCE && now - then >= 1) {
+          System.out.printf(Locale.ROOT, "REGRESSION %s size %s: %s %s -> %s%n", columns[0],
+              columns[1], HEADER.split(",")[column], old[column], columns[column]);
+          passed = false;
+        }
+      }
+    }
+    return passed;
+  }
+
+  private static List<Integer> parseSizes(String argument) {
+    List<Integer> sizes = new ArrayList<>();
+    for (String size : argument.split(",")) {
+      sizes.add(Integer.parseInt(size.trim()));
+    }
+    return sizes;
+  }
+
+  private static long allocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+        .getCurrentThreadAllocatedBytes();
+  }
+
+}
@@ -0,0 +1,91 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.IndexedTreeList;
+import com.innowise.linkedlist.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Positional operations of the O(log n) {@link IndexedTreeList} against the O(n) walk of
+ * {@link LinkedList}, at random positions and at the ends.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndexedTreeListBenchmark {
+
+  private static final Integer INSERTED = -1;
+
+  @Param({"1000", "100000", "1000000"})
+  private int size;
+
+  private LinkedList<Integer> linkedList;
+  private IndexedTreeList<Integer> treeList;
+  private int[] indices;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    linkedList = new LinkedList<>();
+    treeList = new IndexedTreeList<>();
+    for (int i = 0; i < size; i++) {
+      linkedList.addLast(i);
+      treeList.addLast(i);
+    }
+    indices = AccessPattern.RANDOM.indices(size);
+  }
+
+  @Benchmark
+  public Integer linkedListGetRandom() {
+    return linkedList.get(nextIndex());
+  }
+
+  @Benchmark
+  public Integer treeListGetRandom() {
+    return treeList.get(nextIndex());
+  }
+
+  @Benchmark
+  public Integer linkedListAddRemoveRandom() {
+    int index = nextIndex();
+    linkedList.add(index, INSERTED);
+    return linkedList.remove(index);
+  }
+
+  @Benchmark
+  public Integer treeListAddRemoveRandom() {
+    int index = nextIndex();
+    treeList.add(index, INSERTED);
+    return treeList.remove(index);
+  }
+
+  @Benchmark
+  public Integer linkedListAddLastRemoveFirst() {
+    linkedList.addLast(INSERTED);
+    return linkedList.removeFirst();
+  }
+
+  @Benchmark
+  public Integer treeListAddLastRemoveFirst() {
+    treeList.addLast(INSERTED);
+    return treeList.removeFirst();
+  }
+
+  private int nextIndex() {
+    return indices[cursor++ & (AccessPattern.INDEX_COUNT - 1)];
+  }
+
+}
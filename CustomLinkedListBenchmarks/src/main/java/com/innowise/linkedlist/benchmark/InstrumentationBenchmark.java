@@ -0,0 +1,66 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.LinkedList;
+import com.innowise.linkedlist.LinkedListStats;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link LinkedList#instrument(LinkedListStats)} on the hot paths. With
+ * {@code instrumented=false} the numbers should match an uninstrumented build; the difference to
+ * {@code instrumented=true} is the price of collecting statistics.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentationBenchmark {
+
+  private static final Integer INSERTED = -1;
+
+  @Param({"false", "true"})
+  private boolean instrumented;
+
+  @Param({"1000"})
+  private int size;
+
+  private LinkedList<Integer> list;
+  private int[] indices;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    list = new LinkedList<>();
+    for (int i = 0; i < size; i++) {
+      list.addLast(i);
+    }
+    if (instrumented) {
+      list.instrument(new LinkedListStats());
+    }
+    indices = AccessPattern.RANDOM.indices(size);
+  }
+
+  @Benchmark
+  public Integer getRandom() {
+    return list.get(indices[cursor++ & (AccessPattern.INDEX_COUNT - 1)]);
+  }
+
+  @Benchmark
+  public Integer addLastRemoveFirst() {
+    list.addLast(INSERTED);
+    return list.removeFirst();
+  }
+
+}
@@ -0,0 +1,90 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A map-filter-sum pipeline and an early-exit search over a {@link LinkedList}, using the lazy
+ * {@link com.innowise.linkedlist.ListView} views, a stream, and materialized intermediate lists.
+ * Run with {@code -prof gc} to compare the allocation of each approach.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class LazyViewBenchmark {
+
+  @Param({"1000", "1000000"})
+  private int size;
+
+  private LinkedList<Integer> list;
+
+  @Setup
+  public void setUp() {
+    list = new LinkedList<>();
+    for (int i = 0; i < size; i++) {
+      list.addLast(i);
+    }
+  }
+
+  @Benchmark
+  public long viewSum() {
+    long sum = 0;
+    for (long value : list.map(value -> value * 3L).filter(value -> value % 7 == 0)) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long streamSum() {
+    return list.stream()
+        .map(value -> value * 3L)
+        .filter(value -> value % 7 == 0)
+        .mapToLong(Long::longValue)
+        .sum();
+  }
+
+  @Benchmark
+  public long materializedSum() {
+    LinkedList<Long> mapped = new LinkedList<>();
+    for (Integer value : list) {
+      mapped.addLast(value * 3L);
+    }
+    LinkedList<Long> filtered = new LinkedList<>();
+    for (Long value : mapped) {
+      if (value % 7 == 0) {
+        filtered.addLast(value);
+      }
+    }
+    long sum = 0;
+    for (Long value : filtered) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public Integer viewFindInTail() {
+    return list.reversed().filter(value -> value % 1000 == 999).iterator().next();
+  }
+
+  @Benchmark
+  public Integer subListFirstMatch() {
+    return list.subList(size / 2, size).filter(value -> value % 100 == 0).iterator().next();
+  }
+
+}
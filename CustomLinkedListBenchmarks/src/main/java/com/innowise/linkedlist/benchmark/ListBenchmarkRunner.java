@@ -0,0 +1,42 @@
+package com.innowise.linkedlist.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the list benchmarks ({@link ListIndexBenchmark}, {@link ListEndsBenchmark} and
+ * {@link ListEqualityBenchmark}) with the GC profiler attached, so every result comes with its
+ * allocation rate ({@code gc.alloc.rate.norm} is bytes allocated per operation). Results are also
+ * written to {@code list-benchmarks.json} for comparison between runs.
+ *
+ * <p>Any regular JMH command line options, such as {@code -p size=1000} to narrow the matrix,
+ * are passed through.
+ */
+public final class ListBenchmarkRunner {
+
+  private static final String RESULT_FILE = "list-benchmarks.json";
+
+  private ListBenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    Options options = new OptionsBuilder()
+        .parent(new CommandLineOptions(args))
+        .include(ListIndexBenchmark.class.getSimpleName())
+        .include(ListEndsBenchmark.class.getSimpleName())
+        .include(ListEqualityBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .jvmArgsAppend("-Xmx4g")
+        .resultFormat(ResultFormatType.JSON)
+        .result(RESULT_FILE)
+        .build();
+    new Runner(options).run();
+  }
+
+}
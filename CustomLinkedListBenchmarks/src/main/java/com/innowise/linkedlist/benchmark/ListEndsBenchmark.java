@@ -0,0 +1,75 @@
+package com.innowise.linkedlist.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code addFirst} / {@code addLast} paired with removal at either end, plus building a list of
+ * {@code size} elements from scratch. Each pair leaves the size unchanged; the cross pairs
+ * ({@code addFirst} + {@code removeLast} and the reverse) move the window through memory the way a
+ * queue does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListEndsBenchmark {
+
+  private static final Integer INSERTED = -1;
+
+  @Param({"CUSTOM", "JDK_LINKED", "ARRAY_LIST", "ARRAY_DEQUE"})
+  private ListImplementation implementation;
+
+  @Param({"10", "1000", "100000", "10000000"})
+  private int size;
+
+  private BenchmarkList list;
+
+  @Setup
+  public void setUp() {
+    list = implementation.create(size);
+  }
+
+  @Benchmark
+  public Integer addFirstRemoveFirst() {
+    list.addFirst(INSERTED);
+    return list.removeFirst();
+  }
+
+  @Benchmark
+  public Integer addLastRemoveLast() {
+    list.addLast(INSERTED);
+    return list.removeLast();
+  }
+
+  @Benchmark
+  public Integer addLastRemoveFirst() {
+    list.addLast(INSERTED);
+    return list.removeFirst();
+  }
+
+  @Benchmark
+  public Integer addFirstRemoveLast() {
+    list.addFirst(INSERTED);
+    return list.removeLast();
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public BenchmarkList build() {
+    return implementation.create(size);
+  }
+
+}
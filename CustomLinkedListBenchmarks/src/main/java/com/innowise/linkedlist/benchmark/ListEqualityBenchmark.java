@@ -0,0 +1,54 @@
+package com.innowise.linkedlist.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Full traversals through {@code equals} and {@code hashCode}. {@code equals} compares two lists
+ * built separately, so it has to walk both to the end. {@link java.util.ArrayDeque} is left out
+ * because it inherits identity equality.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListEqualityBenchmark {
+
+  @Param({"CUSTOM", "JDK_LINKED", "ARRAY_LIST"})
+  private ListImplementation implementation;
+
+  @Param({"10", "1000", "100000", "10000000"})
+  private int size;
+
+  private Object list;
+  private Object copy;
+
+  @Setup
+  public void setUp() {
+    list = implementation.create(size).unwrap();
+    copy = implementation.create(size).unwrap();
+  }
+
+  @Benchmark
+  public boolean equalsCopy() {
+    return list.equals(copy);
+  }
+
+  @Benchmark
+  public int hashCodeOfList() {
+    return list.hashCode();
+  }
+
+}
@@ -0,0 +1,227 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The list implementations compared by the list benchmarks. Each constant creates a
+ * {@link BenchmarkList} around a fresh, empty instance, so a single benchmark method can measure
+ * every implementation through one {@code @Param}. Every JMH fork only ever sees one
+ * implementation, which keeps the adapter call sites monomorphic.
+ */
+public enum ListImplementation {
+
+  /**
+   * {@link LinkedList} from this project.
+   */
+  CUSTOM {
+    @Override
+    BenchmarkList create() {
+      return new CustomList(new LinkedList<>());
+    }
+  },
+
+  /**
+   * {@link java.util.LinkedList}.
+   */
+  JDK_LINKED {
+    @Override
+    BenchmarkList create() {
+      return new JdkList(new java.util.LinkedList<>());
+    }
+  },
+
+  /**
+   * {@link ArrayList}.
+   */
+  ARRAY_LIST {
+    @Override
+    BenchmarkList create() {
+      return new JdkList(new ArrayList<>());
+    }
+  },
+
+  /**
+   * {@link ArrayDeque}; supports only the operations at both ends.
+   */
+  ARRAY_DEQUE {
+    @Override
+    BenchmarkList create() {
+      return new DequeList(new ArrayDeque<>());
+    }
+  };
+
+  /**
+   * Creates an empty list of this implementation.
+   *
+   * @return a new adapter around an empty list
+   */
+  abstract BenchmarkList create();
+
+  /**
+   * Creates a list of this implementation holding {@code 0 .. size - 1}.
+   *
+   * @param size the number of elements
+   * @return a new adapter around the filled list
+   */
+  BenchmarkList create(int size) {
+    BenchmarkList list = create();
+    for (int i = 0; i < size; i++) {
+      list.addLast(i);
+    }
+    return list;
+  }
+
+  private static final class CustomList implements BenchmarkList {
+
+    private final LinkedList<Integer> list;
+
+    private CustomList(LinkedList<Integer> list) {
+      this.list = list;
+    }
+
+    @Override
+    public void addFirst(Integer value) {
+      list.addFirst(value);
+    }
+
+    @Override
+    public void addLast(Integer value) {
+      list.addLast(value);
+    }
+
+    @Override
+    public void add(int index, Integer value) {
+      list.add(index, value);
+    }
+
+    @Override
+    public Integer get(int index) {
+      return list.get(index);
+    }
+
+    @Override
+    public Integer remove(int index) {
+      return list.remove(index);
+    }
+
+    @Override
+    public Integer removeFirst() {
+      return list.removeFirst();
+    }
+
+    @Override
+    public Integer removeLast() {
+      return list.removeLast();
+    }
+
+    @Override
+    public Object unwrap() {
+      return list;
+    }
+
+  }
+
+  private static final class JdkList implements BenchmarkList {
+
+    private final List<Integer> list;
+
+    private JdkList(List<Integer> list) {
+      this.list = list;
+    }
+
+    @Override
+    public void addFirst(Integer value) {
+      list.add(0, value);
+    }
+
+    @Override
+    public void addLast(Integer value) {
+      list.add(value);
+    }
+
+    @Override
+    public void add(int index, Integer value) {
+      list.add(index, value);
+    }
+
+    @Override
+    public Integer get(int index) {
+      return list.get(index);
+    }
+
+    @Override
+    public Integer remove(int index) {
+      return list.remove(index);
+    }
+
+    @Override
+    public Integer removeFirst() {
+      return list.remove(0);
+    }
+
+    @Override
+    public Integer removeLast() {
+      return list.remove(list.size() - 1);
+    }
+
+    @Override
+    public Object unwrap() {
+      return list;
+    }
+
+  }
+
+  private static final class DequeList implements BenchmarkList {
+
+    private final ArrayDeque<Integer> deque;
+
+    private DequeList(ArrayDeque<Integer> deque) {
+      this.deque = deque;
+    }
+
+    @Override
+    public void addFirst(Integer value) {
+      deque.addFirst(value);
+    }
+
+    @Override
+    public void addLast(Integer value) {
+      deque.addLast(value);
+    }
+
+    @Override
+    public void add(int index, Integer value) {
+      throw new UnsupportedOperationException("ArrayDeque has no indexed access");
+    }
+
+    @Override
+    public Integer get(int index) {
+      throw new UnsupportedOperationException("ArrayDeque has no indexed access");
+    }
+
+    @Override
+    public Integer remove(int index) {
+      throw new UnsupportedOperationException("ArrayDeque has no indexed access");
+    }
+
+    @Override
+    public Integer removeFirst() {
+      return deque.removeFirst();
+    }
+
+    @Override
+    public Integer removeLast() {
+      return deque.removeLast();
+    }
+
+    @Override
+    public Object unwrap() {
+      return deque;
+    }
+
+  }
+
+}
@@ -0,0 +1,70 @@
+package com.innowise.linkedlist.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Indexed {@code get}, {@code add} and {@code remove} across list sizes from 10 to 10^7 and the
+ * access patterns of {@link AccessPattern}. {@code add(int)} is always paired with
+ * {@code remove(int)} at the same index so the list keeps its size over the whole run.
+ * {@link java.util.ArrayDeque} is left out because it has no indexed access. For the custom list
+ * only the {@code RANDOM} and {@code ALTERNATING} patterns measure walking; {@code MIDDLE} and
+ * {@code SEQUENTIAL} are served by the node it remembers from the previous access.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListIndexBenchmark {
+
+  private static final Integer INSERTED = -1;
+
+  @Param({"CUSTOM", "JDK_LINKED", "ARRAY_LIST"})
+  private ListImplementation implementation;
+
+  @Param({"10", "1000", "100000", "10000000"})
+  private int size;
+
+  @Param({"HEAD", "TAIL", "MIDDLE", "RANDOM", "SEQUENTIAL", "ALTERNATING"})
+  private AccessPattern pattern;
+
+  private BenchmarkList list;
+  private int[] indices;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    list = implementation.create(size);
+    indices = pattern.indices(size);
+    cursor = 0;
+  }
+
+  @Benchmark
+  public Integer get() {
+    return list.get(nextIndex());
+  }
+
+  @Benchmark
+  public Integer addThenRemove() {
+    int index = nextIndex();
+    list.add(index, INSERTED);
+    return list.remove(index);
+  }
+
+  private int nextIndex() {
+    return indices[cursor++ & (AccessPattern.INDEX_COUNT - 1)];
+  }
+
+}
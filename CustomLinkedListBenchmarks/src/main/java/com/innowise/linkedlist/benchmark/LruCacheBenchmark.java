@@ -0,0 +1,144 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.LinkedList;
+import com.innowise.linkedlist.LruCache;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Get-or-put lookups against {@link LruCache}, an access-ordered {@link LinkedHashMap}, and the
+ * hand-rolled {@link LinkedList} plus {@link HashMap} cache that has to find a hit's position with
+ * {@code remove(Object)} before moving it to the front. Keys are drawn from twice the capacity
+ * with a skew towards low keys, so lookups mix hits, misses and evictions. The striped cache is
+ * measured from four threads at once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LruCacheBenchmark {
+
+  private static final int KEY_COUNT = 1 << 14;
+
+  @Param({"1000", "100000"})
+  private int capacity;
+
+  private LruCache<Integer, Integer> lruCache;
+  private LruCache<Integer, Integer> stripedCache;
+  private Map<Integer, Integer> linkedHashMap;
+  private LinkedList<Integer> handRolledOrder;
+  private Map<Integer, Integer> handRolledValues;
+  private Integer[] keys;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    lruCache = new LruCache<>(capacity);
+    stripedCache = new LruCache<>(capacity, (key, value) -> 1, 16);
+    int bound = capacity;
+    linkedHashMap = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+        return size() > bound;
+      }
+    };
+    handRolledOrder = new LinkedList<>();
+    handRolledValues = new HashMap<>();
+    Random random = new Random(42);
+    keys = new Integer[KEY_COUNT];
+    for (int i = 0; i < KEY_COUNT; i++) {
+      double skewed = Math.pow(random.nextDouble(), 2);
+      keys[i] = (int) (skewed * capacity * 2);
+    }
+  }
+
+  @Benchmark
+  public Integer lruCache() {
+    Integer key = nextKey();
+    Integer value = lruCache.get(key);
+    if (value == null) {
+      lruCache.put(key, key);
+      value = key;
+    }
+    return value;
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Integer stripedCache(ThreadCursor threadCursor) {
+    Integer key = keys[threadCursor.next() & (KEY_COUNT - 1)];
+    Integer value = stripedCache.get(key);
+    if (value == null) {
+      stripedCache.put(key, key);
+      value = key;
+    }
+    return value;
+  }
+
+  @Benchmark
+  public Integer linkedHashMap() {
+    Integer key = nextKey();
+    Integer value = linkedHashMap.get(key);
+    if (value == null) {
+      linkedHashMap.put(key, key);
+      value = key;
+    }
+    return value;
+  }
+
+  @Benchmark
+  public Integer handRolled() {
+    Integer key = nextKey();
+    Integer value = handRolledValues.get(key);
+    if (value != null) {
+      handRolledOrder.remove(key);
+    } else {
+      value = key;
+      handRolledValues.put(key, value);
+      if (handRolledValues.size() > capacity) {
+        handRolledValues.remove(handRolledOrder.removeLast());
+      }
+    }
+    handRolledOrder.addFirst(key);
+    return value;
+  }
+
+  private Integer nextKey() {
+    return keys[cursor++ & (KEY_COUNT - 1)];
+  }
+
+  /**
+   * A key cursor per benchmark thread, each starting at a different offset.
+   */
+  @State(Scope.Thread)
+  public static class ThreadCursor {
+
+    private static final AtomicInteger OFFSETS = new AtomicInteger();
+
+    private int cursor = OFFSETS.getAndAdd(KEY_COUNT / 4);
+
+    int next() {
+      return cursor++;
+    }
+
+  }
+
+}
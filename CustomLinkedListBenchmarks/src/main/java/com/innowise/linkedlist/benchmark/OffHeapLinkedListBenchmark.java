@@ -0,0 +1,101 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.FixedWidthCodec;
+import com.innowise.linkedlist.LinkedList;
+import com.innowise.linkedlist.OffHeapLinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares garbage collection cost of a large heap {@link LinkedList} against an
+ * {@link OffHeapLinkedList} holding the same number of records. Both lists are used as a FIFO
+ * that churns one record per operation while the rest of the list stays resident.
+ *
+ * <p>Run with the GC profiler and compare {@code gc.time} and {@code gc.count} between the two
+ * benchmarks:
+ * <pre>
+ * java -jar target/benchmarks.jar OffHeapLinkedListBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-XX:MaxDirectMemorySize=8g"})
+public class OffHeapLinkedListBenchmark {
+
+  /**
+   * Resident heap list; kept in its own state so that only one list is alive per benchmark.
+   */
+  @State(Scope.Benchmark)
+  public static class HeapState {
+
+    @Param({"1000000", "10000000", "50000000"})
+    private int records;
+
+    private LinkedList<Long> list;
+    private long counter;
+
+    @Setup
+    public void setUp() {
+      list = new LinkedList<>();
+      for (long i = 0; i < records; i++) {
+        list.addLast(i);
+      }
+      counter = records;
+    }
+
+  }
+
+  /**
+   * Resident off-heap list.
+   */
+  @State(Scope.Benchmark)
+  public static class OffHeapState {
+
+    @Param({"1000000", "10000000", "50000000"})
+    private int records;
+
+    private OffHeapLinkedList<Long> list;
+    private long counter;
+
+    @Setup
+    public void setUp() {
+      list = new OffHeapLinkedList<>(FixedWidthCodec.LONG);
+      for (long i = 0; i < records; i++) {
+        list.addLast(i);
+      }
+      counter = records;
+    }
+
+    @TearDown
+    public void tearDown() {
+      list.close();
+    }
+
+  }
+
+  @Benchmark
+  public Long heapChurn(HeapState state) {
+    state.list.addLast(state.counter++);
+    return state.list.removeFirst();
+  }
+
+  @Benchmark
+  public Long offHeapChurn(OffHeapState state) {
+    state.list.addLast(state.counter++);
+    return state.list.removeFirst();
+  }
+
+}
@@ -0,0 +1,102 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.LinkedList;
+import com.innowise.linkedlist.RingBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A sliding window of the latest {@code window} samples, measured in two parts. The
+ * {@code *Slide} benchmarks move the window by one sample: {@link RingBuffer#addLast} against
+ * {@link LinkedList#addLast} followed by {@link LinkedList#removeFirst}, with and without the
+ * node pool. The {@code *Get} benchmarks read a sample at a varying position in the window, so
+ * the positional access cost of each structure is visible on its own. Run with {@code -prof gc}
+ * to see that the ring buffer allocates nothing per sample.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RingBufferBenchmark {
+
+  private static final int SAMPLE_COUNT = 1 << 10;
+
+  @Param({"16", "1024", "65536"})
+  private int window;
+
+  private Integer[] samples;
+  private int[] positions;
+  private RingBuffer<Integer> ringBuffer;
+  private LinkedList<Integer> linkedList;
+  private LinkedList<Integer> pooledList;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    samples = new Integer[SAMPLE_COUNT];
+    positions = new int[SAMPLE_COUNT];
+    for (int i = 0; i < SAMPLE_COUNT; i++) {
+      samples[i] = i;
+      positions[i] = random.nextInt(window);
+    }
+    ringBuffer = new RingBuffer<>(window);
+    linkedList = new LinkedList<>();
+    pooledList = new LinkedList<>(1);
+    for (int i = 0; i < window; i++) {
+      ringBuffer.addLast(samples[i & (SAMPLE_COUNT - 1)]);
+      linkedList.addLast(samples[i & (SAMPLE_COUNT - 1)]);
+      pooledList.addLast(samples[i & (SAMPLE_COUNT - 1)]);
+    }
+  }
+
+  @Benchmark
+  public Integer ringBufferSlide() {
+    return ringBuffer.addLast(nextSample());
+  }
+
+  @Benchmark
+  public Integer linkedListSlide() {
+    linkedList.addLast(nextSample());
+    return linkedList.removeFirst();
+  }
+
+  @Benchmark
+  public Integer pooledLinkedListSlide() {
+    Integer evicted = pooledList.removeFirst();
+    pooledList.addLast(nextSample());
+    return evicted;
+  }
+
+  @Benchmark
+  public Integer ringBufferGet() {
+    return ringBuffer.get(nextPosition());
+  }
+
+  @Benchmark
+  public Integer linkedListGet() {
+    return linkedList.get(nextPosition());
+  }
+
+  private Integer nextSample() {
+    return samples[cursor++ & (SAMPLE_COUNT - 1)];
+  }
+
+  private int nextPosition() {
+    return positions[cursor++ & (SAMPLE_COUNT - 1)];
+  }
+
+}
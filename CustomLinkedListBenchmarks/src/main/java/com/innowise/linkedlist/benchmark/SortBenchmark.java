@@ -0,0 +1,77 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.LinkedList;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * In-place merge sort of {@link LinkedList} nodes, sequential and on the fork-join pool, against
+ * {@link java.util.LinkedList#sort}, which copies the elements into an array and back. The lists
+ * are refilled with the same shuffled values before every invocation.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortBenchmark {
+
+  @Param({"10000", "1000000"})
+  private int size;
+
+  private int[] values;
+  private LinkedList<Integer> linkedList;
+  private java.util.LinkedList<Integer> jdkList;
+
+  @Setup(Level.Trial)
+  public void createValues() {
+    SplittableRandom random = new SplittableRandom(42);
+    values = new int[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = random.nextInt();
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void fill() {
+    linkedList = new LinkedList<>();
+    jdkList = new java.util.LinkedList<>();
+    for (int value : values) {
+      linkedList.addLast(value);
+      jdkList.addLast(value);
+    }
+  }
+
+  @Benchmark
+  public LinkedList<Integer> linkedListSort() {
+    linkedList.sort(Comparator.naturalOrder());
+    return linkedList;
+  }
+
+  @Benchmark
+  public LinkedList<Integer> linkedListParallelSort() {
+    linkedList.parallelSort(Comparator.naturalOrder());
+    return linkedList;
+  }
+
+  @Benchmark
+  public java.util.LinkedList<Integer> jdkSort() {
+    jdkList.sort(Comparator.naturalOrder());
+    return jdkList;
+  }
+
+}
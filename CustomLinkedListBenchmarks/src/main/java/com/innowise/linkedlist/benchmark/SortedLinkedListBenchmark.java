@@ -0,0 +1,100 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.LinkedList;
+import com.innowise.linkedlist.SortedLinkedList;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Ordered insertion and removal of a random value: the skip-list {@link SortedLinkedList} against
+ * a {@link LinkedList} kept sorted by scanning for the position with a list iterator, and against
+ * a {@link TreeMap} of counts. Every operation inserts a value and removes it again, so the size
+ * stays fixed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortedLinkedListBenchmark {
+
+  private static final int VALUE_COUNT = 1 << 12;
+
+  @Param({"1000", "100000", "1000000"})
+  private int size;
+
+  private SortedLinkedList<Integer> sortedList;
+  private LinkedList<Integer> linkedList;
+  private TreeMap<Integer, Integer> treeMap;
+  private Integer[] values;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    sortedList = new SortedLinkedList<>();
+    linkedList = new LinkedList<>();
+    treeMap = new TreeMap<>();
+    for (int i = 0; i < size; i++) {
+      int value = random.nextInt();
+      sortedList.insert(value);
+      treeMap.merge(value, 1, Integer::sum);
+    }
+    for (Integer value : sortedList) {
+      linkedList.addLast(value);
+    }
+    values = new Integer[VALUE_COUNT];
+    for (int i = 0; i < VALUE_COUNT; i++) {
+      values[i] = random.nextInt();
+    }
+  }
+
+  @Benchmark
+  public boolean sortedList() {
+    Integer value = nextValue();
+    sortedList.insert(value);
+    return sortedList.remove(value);
+  }
+
+  @Benchmark
+  public boolean linkedListScan() {
+    Integer value = nextValue();
+    ListIterator<Integer> iterator = linkedList.listIterator();
+    while (iterator.hasNext()) {
+      if (iterator.next() > value) {
+        iterator.previous();
+        break;
+      }
+    }
+    iterator.add(value);
+    iterator.previous();
+    iterator.remove();
+    return true;
+  }
+
+  @Benchmark
+  public Integer treeMap() {
+    Integer value = nextValue();
+    treeMap.merge(value, 1, Integer::sum);
+    return treeMap.computeIfPresent(value, (key, count) -> count == 1 ? null : count - 1);
+  }
+
+  private Integer nextValue() {
+    return values[cursor++ & (VALUE_COUNT - 1)];
+  }
+
+}
@@ -0,0 +1,159 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.LinkedList;
+import com.innowise.linkedlist.UnrolledLinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the unrolled node layout of {@link UnrolledLinkedList} against the per-element node
+ * layout of {@link LinkedList} for indexed access, insertion/removal at random positions and full
+ * traversal. Positions are precomputed with {@link AccessPattern#RANDOM}, so that the node
+ * {@link LinkedList} remembers from the previous access does not turn repeated calls into O(1).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnrolledLinkedListBenchmark {
+
+  /**
+   * The {@link LinkedList} pair; kept apart from the node capacity so that its benchmarks run
+   * once per size.
+   */
+  @State(Scope.Benchmark)
+  public static class LinkedListState {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private LinkedList<Integer> list;
+    private LinkedList<Integer> copy;
+    private int[] indices;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+      list = new LinkedList<>();
+      copy = new LinkedList<>();
+      for (int i = 0; i < size; i++) {
+        list.addLast(i);
+        copy.addLast(i);
+      }
+      indices = AccessPattern.RANDOM.indices(size);
+    }
+
+    private int nextIndex() {
+      return indices[cursor++ & (AccessPattern.INDEX_COUNT - 1)];
+    }
+
+  }
+
+  /**
+   * The {@link UnrolledLinkedList} pair for every node capacity.
+   */
+  @State(Scope.Benchmark)
+  public static class UnrolledState {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"16", "32", "64"})
+    private int nodeCapacity;
+
+    private UnrolledLinkedList<Integer> list;
+    private UnrolledLinkedList<Integer> copy;
+    private int[] indices;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+      list = new UnrolledLinkedList<>(nodeCapacity);
+      copy = new UnrolledLinkedList<>(nodeCapacity);
+      for (int i = 0; i < size; i++) {
+        list.addLast(i);
+        copy.addLast(i);
+      }
+      indices = AccessPattern.RANDOM.indices(size);
+    }
+
+    private int nextIndex() {
+      return indices[cursor++ & (AccessPattern.INDEX_COUNT - 1)];
+    }
+
+  }
+
+  @Benchmark
+  public Integer linkedListGet(LinkedListState state) {
+    return state.list.get(state.nextIndex());
+  }
+
+  @Benchmark
+  public Integer unrolledGet(UnrolledState state) {
+    return state.list.get(state.nextIndex());
+  }
+
+  @Benchmark
+  public Integer linkedListAddRemove(LinkedListState state) {
+    int index = state.nextIndex();
+    state.list.add(index, -1);
+    return state.list.remove(index);
+  }
+
+  @Benchmark
+  public Integer unrolledAddRemove(UnrolledState state) {
+    int index = state.nextIndex();
+    state.list.add(index, -1);
+    return state.list.remove(index);
+  }
+
+  @Benchmark
+  public int linkedListHashCode(LinkedListState state) {
+    return state.list.hashCode();
+  }
+
+  @Benchmark
+  public int unrolledHashCode(UnrolledState state) {
+    return state.list.hashCode();
+  }
+
+  @Benchmark
+  public boolean linkedListEquals(LinkedListState state) {
+    return state.list.equals(state.copy);
+  }
+
+  @Benchmark
+  public boolean unrolledEquals(UnrolledState state) {
+    return state.list.equals(state.copy);
+  }
+
+  @Benchmark
+  public LinkedList<Integer> linkedListBuild(LinkedListState state) {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 0; i < state.size; i++) {
+      list.addLast(i);
+    }
+    return list;
+  }
+
+  @Benchmark
+  public UnrolledLinkedList<Integer> unrolledBuild(UnrolledState state) {
+    UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(state.nodeCapacity);
+    for (int i = 0; i < state.size; i++) {
+      list.addLast(i);
+    }
+    return list;
+  }
+
+}
@@ -0,0 +1,73 @@
+package com.innowise.linkedlist.benchmark;
+
+import com.innowise.linkedlist.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups and removals by value with and without {@link LinkedList#enableValueIndex()}. Every
+ * removal is followed by re-inserting the value at the end, so the list keeps its contents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueIndexBenchmark {
+
+  @Param({"1000", "100000"})
+  private int size;
+
+  @Param({"false", "true"})
+  private boolean indexed;
+
+  private LinkedList<Integer> list;
+  private int[] indices;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    list = new LinkedList<>();
+    for (int i = 0; i < size; i++) {
+      list.addLast(i);
+    }
+    if (indexed) {
+      list.enableValueIndex();
+    }
+    indices = AccessPattern.RANDOM.indices(size);
+  }
+
+  @Benchmark
+  public boolean containsPresent() {
+    return list.contains(nextValue());
+  }
+
+  @Benchmark
+  public boolean containsAbsent() {
+    return list.contains(-nextValue() - 1);
+  }
+
+  @Benchmark
+  public boolean removeAndReinsert() {
+    Integer value = nextValue();
+    boolean removed = list.remove(value);
+    list.addLast(value);
+    return removed;
+  }
+
+  private Integer nextValue() {
+    return indices[cursor++ & (AccessPattern.INDEX_COUNT - 1)];
+  }
+
+}